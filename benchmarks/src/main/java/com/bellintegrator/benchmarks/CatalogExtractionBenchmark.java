@@ -0,0 +1,62 @@
+package com.bellintegrator.benchmarks;
+
+import com.bellintegrator.pages.ozon.CatalogCard;
+import com.bellintegrator.pages.ozon.OzonCatalogPage;
+import org.openjdk.jmh.annotations.*;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк извлечения результатов поиска со страницы каталога:
+ * по одному запросу WebDriver на карточку против одного вызова JavaScript.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CatalogExtractionBenchmark {
+
+    private FixtureBrowser browser;
+    private OzonCatalogPage ozonCatalogPage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        browser = new FixtureBrowser();
+        ozonCatalogPage = new OzonCatalogPage(browser.open("catalog.html"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        browser.close();
+    }
+
+    /**
+     * Имена товаров через findElement и getText для каждой ссылки.
+     */
+    @Benchmark
+    public List<String> perElementNames() {
+        return ozonCatalogPage.getFoundNameItems(ozonCatalogPage.getFoundItems());
+    }
+
+    /**
+     * Имена товаров одним вызовом JavaScript.
+     */
+    @Benchmark
+    public List<String> batchedNames() {
+        return ozonCatalogPage.getFoundNameItems();
+    }
+
+    /**
+     * Полные карточки товаров одним вызовом JavaScript.
+     */
+    @Benchmark
+    public List<CatalogCard> batchedCards() {
+        return ozonCatalogPage.extractCards();
+    }
+}
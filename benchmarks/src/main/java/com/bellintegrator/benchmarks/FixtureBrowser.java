@@ -0,0 +1,69 @@
+package com.bellintegrator.benchmarks;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс FixtureBrowser запускает локальный headless Chrome и открывает в нем статические копии
+ * стартовой страницы, каталога и страницы товара Ozon, поэтому бенчмарки не требуют сети.
+ * Путь к chromedriver берется из переменной окружения CHROME_DRIVER, иначе chromedriver ищется в PATH.
+ * Бенчмарки запускаются из корня проекта, чтобы страницы прочитали src/main/resources/tests.properties:
+ * mvn install -DskipTests, затем mvn -f benchmarks/pom.xml package и java -jar benchmarks/target/benchmarks.jar.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class FixtureBrowser implements AutoCloseable {
+
+    private static final String[] FIXTURES = {"start.html", "catalog.html", "item.html"};
+
+    private final Path directory;
+    private final WebDriver webDriver;
+
+    /**
+     * Копирует фикстуры во временный каталог и запускает headless Chrome.
+     *
+     * @throws IOException если фикстуры не удалось скопировать.
+     */
+    public FixtureBrowser() throws IOException {
+        directory = Files.createTempDirectory("ozon-fixtures");
+        for (String fixture : FIXTURES) {
+            try (InputStream input = FixtureBrowser.class.getResourceAsStream("/fixtures/" + fixture)) {
+                Files.copy(input, directory.resolve(fixture));
+            }
+        }
+        if (System.getenv("CHROME_DRIVER") != null) {
+            System.setProperty("webdriver.chrome.driver", System.getenv("CHROME_DRIVER"));
+        }
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--headless", "--disable-gpu", "--no-sandbox", "--window-size=1366,768");
+        webDriver = new ChromeDriver(options);
+        webDriver.manage().timeouts().setScriptTimeout(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Открывает фикстуру в браузере.
+     *
+     * @param fixture имя файла фикстуры: start.html, catalog.html или item.html.
+     * @return WebDriver с открытой фикстурой.
+     */
+    public WebDriver open(String fixture) {
+        webDriver.get(directory.resolve(fixture).toUri().toString());
+        return webDriver;
+    }
+
+    @Override
+    public void close() throws IOException {
+        webDriver.quit();
+        for (String fixture : FIXTURES) {
+            Files.deleteIfExists(directory.resolve(fixture));
+        }
+        Files.deleteIfExists(directory);
+    }
+}
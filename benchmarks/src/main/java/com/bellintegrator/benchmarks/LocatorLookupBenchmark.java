@@ -0,0 +1,64 @@
+package com.bellintegrator.benchmarks;
+
+import com.bellintegrator.service.Locators;
+import org.openjdk.jmh.annotations.*;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк поиска элементов стартовой страницы и каталога по XPath и по CSS,
+ * полученному преобразованием того же XPath.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LocatorLookupBenchmark {
+
+    private static final String CATALOG_BUTTON_XPATH = "//div[@data-widget='catalogMenu']//button";
+    private static final String FOUND_ITEMS_XPATH = "//div[@data-widget='searchResultsV2']" +
+            "//a[contains(@href, '') and not(contains(@data-prerender, 'true'))]";
+
+    private FixtureBrowser browser;
+    private WebDriver webDriver;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        browser = new FixtureBrowser();
+        webDriver = browser.open("start.html");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        browser.close();
+    }
+
+    @Benchmark
+    public WebElement catalogButtonByXPath() {
+        return webDriver.findElement(By.xpath(CATALOG_BUTTON_XPATH));
+    }
+
+    @Benchmark
+    public WebElement catalogButtonByCompiledLocator() {
+        return webDriver.findElement(Locators.xpath(CATALOG_BUTTON_XPATH));
+    }
+
+    @Benchmark
+    public List<WebElement> foundItemsByXPath() {
+        return webDriver.findElements(By.xpath(FOUND_ITEMS_XPATH));
+    }
+
+    @Benchmark
+    public List<WebElement> foundItemsByCompiledLocator() {
+        return webDriver.findElements(Locators.xpath(FOUND_ITEMS_XPATH));
+    }
+}
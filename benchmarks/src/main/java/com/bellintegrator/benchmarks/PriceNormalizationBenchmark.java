@@ -0,0 +1,61 @@
+package com.bellintegrator.benchmarks;
+
+import com.bellintegrator.verification.ItemCriteria;
+import com.bellintegrator.verification.PriceParser;
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Бенчмарк нормализации цен со страницы товара.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceNormalizationBenchmark {
+
+    private static final Pattern NON_DIGITS = Pattern.compile("[\\s\\u00A0\\u2009₽]");
+
+    @Param({"10\u2009000\u00A0₽", "125 990 ₽", "9\u00A0999\u00A0₽"})
+    private String price;
+
+    /**
+     * Прежний путь ItemCriteria.parsePrice: две цепочки String.replaceAll и Integer.parseInt.
+     */
+    @Benchmark
+    public int replaceAllChain() {
+        String itemPrice = price.replaceAll("[\\u00A0₽]", "")
+                .replaceAll("[\\s\\u00A0\\u2009]", "");
+        return Integer.parseInt(itemPrice);
+    }
+
+    /**
+     * Точка отсчета: один заранее скомпилированный Pattern.
+     */
+    @Benchmark
+    public int precompiledPattern() {
+        return Integer.parseInt(NON_DIGITS.matcher(price).replaceAll(""));
+    }
+
+    /**
+     * Текущий путь: однопроходный разбор PriceParser в копейки.
+     */
+    @Benchmark
+    public long singlePassParser() {
+        return PriceParser.parseMinor(price);
+    }
+
+    /**
+     * Текущий путь через ItemCriteria.parsePrice, с переводом копеек в рубли.
+     */
+    @Benchmark
+    public int itemCriteriaParsePrice() {
+        return ItemCriteria.parsePrice(price);
+    }
+}
@@ -0,0 +1,94 @@
+package com.bellintegrator.benchmarks;
+
+import com.bellintegrator.service.ScreenShooter;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.FileSystemResultsWriter;
+import io.qameta.allure.model.TestResult;
+import org.openjdk.jmh.annotations.*;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Бенчмарк стоимости скриншота для потока теста: прежнее сохранение через файл на диске
+ * против снятия в память и передачи в фоновую очередь.
+ * Вложения ScreenShooter регистрируются в тесте Allure, начатом бенчмарком, и пишутся во временный
+ * каталог результатов, а не в ./allure-results.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScreenShooterBenchmark {
+
+    private FixtureBrowser browser;
+    private WebDriver webDriver;
+    private Path target;
+    private Path allureResults;
+    private AllureLifecycle lifecycle;
+    private String testUuid;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        browser = new FixtureBrowser();
+        webDriver = browser.open("item.html");
+        target = Files.createTempFile("screen", ".png");
+        allureResults = Files.createTempDirectory("benchmark-allure-results");
+        lifecycle = new AllureLifecycle(new FileSystemResultsWriter(allureResults));
+        Allure.setLifecycle(lifecycle);
+        testUuid = UUID.randomUUID().toString();
+        lifecycle.scheduleTestCase(new TestResult().setUuid(testUuid).setName("ScreenShooterBenchmark"));
+        lifecycle.startTestCase(testUuid);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        lifecycle.stopTestCase(testUuid);
+        browser.close();
+        Files.deleteIfExists(target);
+        try (Stream<Path> files = Files.walk(allureResults)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    /**
+     * Прежний путь: OutputType.FILE, копирование в общий файл и чтение обратно.
+     */
+    @Benchmark
+    public byte[] legacyFileRoundTrip() throws IOException {
+        File screenshot = ((TakesScreenshot) webDriver).getScreenshotAs(OutputType.FILE);
+        Files.copy(screenshot.toPath(), target, StandardCopyOption.REPLACE_EXISTING);
+        return Files.readAllBytes(target);
+    }
+
+    /**
+     * Только снятие скриншота в память.
+     */
+    @Benchmark
+    public byte[] inMemoryCapture() {
+        return ((TakesScreenshot) webDriver).getScreenshotAs(OutputType.BYTES);
+    }
+
+    /**
+     * Текущий путь ScreenShooter: политика скриншотов, снятие в память и постановка в очередь.
+     */
+    @Benchmark
+    public byte[] screenShooter() {
+        return ScreenShooter.getScreen(webDriver);
+    }
+}
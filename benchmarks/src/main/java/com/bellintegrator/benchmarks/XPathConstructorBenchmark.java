@@ -0,0 +1,65 @@
+package com.bellintegrator.benchmarks;
+
+import com.bellintegrator.service.CompiledLocator;
+import com.bellintegrator.service.LocatorCompiler;
+import com.bellintegrator.service.Locators;
+import com.bellintegrator.service.XPathConstructor;
+import org.openjdk.jmh.annotations.*;
+import org.openqa.selenium.By;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк построения XPath выражений через {@link XPathConstructor} и их преобразования в локаторы.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XPathConstructorBenchmark {
+
+    @Param({"Электроника", "Ноутбуки"})
+    private String menuName;
+
+    /**
+     * Построение XPath меню, как в OzonStartPage.getMenu.
+     */
+    @Benchmark
+    public String constructMenuXPath() {
+        return XPathConstructor.constructXPath("//", "span", "", "text()", "=", menuName, "");
+    }
+
+    /**
+     * Построение составного XPath кнопки cookie, как в OzonStartPage.closeCookie.
+     */
+    @Benchmark
+    public String constructCookieXPath() {
+        String cookieXPath1 = XPathConstructor
+                .constructXPath("//", "div", "contains", "@data-widget", ",", "ookie", "");
+        String cookieXPath2 = XPathConstructor
+                .constructXPath("//", "button", "contains", "text()", ",", "", "");
+        String cookieXPath3 = XPathConstructor
+                .constructXPath("", "div", "", "text()", "=", "ОК", "");
+        return cookieXPath1 + cookieXPath2 + XPathConstructor.constructConditionForXPath("descendant", cookieXPath3);
+    }
+
+    /**
+     * Построение XPath и получение закешированного локатора.
+     */
+    @Benchmark
+    public By constructAndLookupCachedLocator() {
+        return Locators.xpath(XPathConstructor.constructXPath("//", "span", "", "text()", "=", menuName, ""));
+    }
+
+    /**
+     * Преобразование XPath в CSS без кеша.
+     */
+    @Benchmark
+    public CompiledLocator compileLocationXPath() {
+        return LocatorCompiler.compile("//div[(@class='vue-portal-target')]//button[(@type='button')]");
+    }
+}
@@ -0,0 +1,27 @@
+package com.bellintegrator.checkpoint;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Расширение JUnit, связывающее попытку теста с его контрольными точками в {@link CheckpointStore}.
+ * Ключ теста составляется из класса, метода и отображаемого имени с аргументами, поэтому повтор
+ * того же набора данных находит точку, даже если индекс вызова изменился из-за шардирования.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class CheckpointExtension implements BeforeEachCallback, AfterEachCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        CheckpointStore.getInstance().begin(context.getRequiredTestClass().getName() + "#"
+                + context.getRequiredTestMethod().getName() + "#" + context.getDisplayName());
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        CheckpointStore.getInstance().finish(context.getExecutionException().isPresent());
+    }
+}
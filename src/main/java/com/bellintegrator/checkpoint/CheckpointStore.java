@@ -0,0 +1,257 @@
+package com.bellintegrator.checkpoint;
+
+import com.bellintegrator.properties.Properties;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Хранилище контрольных точек пути тестов, общее для всех тестов прогона.
+ * Тест, упавший после этапа с контрольной точкой, при повторе surefire в той же JVM (rerunFailingTestsCount)
+ * начинает с адреса точки, а не со стартовой страницы. Точки лежат в памяти и удаляются после успешного
+ * прохождения. Только при checkpoint.resume.across.runs точка упавшего теста пишется и в файл каталога
+ * checkpoint.directory, и новый запуск продолжает с нее. Точки старше checkpoint.ttl.minutes не используются.
+ * Текущий тест потока задается {@link CheckpointExtension}; без него хранилище ничего не делает.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class CheckpointStore {
+
+    private static final CheckpointStore INSTANCE = new CheckpointStore();
+
+    private final boolean enabled;
+    private final boolean acrossRuns;
+    private final Path directory;
+    private final Duration ttl;
+    private final Map<String, JourneyCheckpoint> checkpoints = new ConcurrentHashMap<>();
+    private final ThreadLocal<Attempt> attempt = new ThreadLocal<>();
+
+    /**
+     * Конструктор хранилища по свойствам checkpoint.*.
+     */
+    private CheckpointStore() {
+        this(Properties.testsProperties.checkpointEnabled(),
+                Properties.testsProperties.checkpointResumeAcrossRuns(),
+                Paths.get(Properties.testsProperties.checkpointDirectory()),
+                Duration.ofMinutes(Properties.testsProperties.checkpointTtlMinutes()));
+    }
+
+    /**
+     * Конструктор хранилища с заданными настройками.
+     *
+     * @param enabled    true, если точки записываются и используются.
+     * @param acrossRuns true, если точки упавших тестов сохраняются в файлы для следующего запуска.
+     * @param directory  каталог файлов точек.
+     * @param ttl        срок годности точки.
+     */
+    CheckpointStore(boolean enabled, boolean acrossRuns, Path directory, Duration ttl) {
+        this.enabled = enabled;
+        this.acrossRuns = acrossRuns;
+        this.directory = directory;
+        this.ttl = ttl;
+    }
+
+    /**
+     * Возвращает общее хранилище контрольных точек.
+     *
+     * @return экземпляр хранилища.
+     */
+    public static CheckpointStore getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Начинает попытку теста в текущем потоке и находит годную точку, с которой ее можно продолжить.
+     *
+     * @param caseKey ключ теста, одинаковый у всех повторов одного набора данных.
+     */
+    public void begin(String caseKey) {
+        if (!enabled) {
+            return;
+        }
+        JourneyCheckpoint resumePoint = checkpoints.get(caseKey);
+        if (resumePoint != null && !resumePoint.isFresh(ttl)) {
+            checkpoints.remove(caseKey);
+            resumePoint = null;
+        }
+        if (resumePoint == null && acrossRuns) {
+            resumePoint = loadFresh(caseKey);
+        }
+        attempt.set(new Attempt(caseKey, resumePoint));
+    }
+
+    /**
+     * Завершает попытку теста в текущем потоке. Точка упавшего теста остается в памяти для повтора
+     * и при checkpoint.resume.across.runs сохраняется в файл, точка успешного теста удаляется.
+     *
+     * @param failed true, если тест упал.
+     */
+    public void finish(boolean failed) {
+        Attempt current = attempt.get();
+        attempt.remove();
+        if (current == null) {
+            return;
+        }
+        if (!failed) {
+            checkpoints.remove(current.caseKey);
+        }
+        if (!acrossRuns) {
+            return;
+        }
+        JourneyCheckpoint checkpoint = checkpoints.get(current.caseKey);
+        try {
+            if (failed && checkpoint != null) {
+                checkpoint.save(fileOf(current.caseKey));
+            } else if (!failed) {
+                Files.deleteIfExists(fileOf(current.caseKey));
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Возвращает точку, с которой можно продолжить текущую попытку.
+     *
+     * @return контрольная точка или null, если попытка начинается с начала.
+     */
+    public JourneyCheckpoint resumePoint() {
+        Attempt current = attempt.get();
+        return current != null ? current.resumePoint : null;
+    }
+
+    /**
+     * Отмечает, что страница точки восстановлена и этапы до нее пропускаются.
+     */
+    public void markResumed() {
+        Attempt current = attempt.get();
+        if (current != null && current.resumePoint != null) {
+            current.resumed = true;
+        }
+    }
+
+    /**
+     * Отказывается от точки текущей попытки, например, если ее адрес больше не открывается.
+     * Попытка проходит весь путь заново и записывает новые точки.
+     */
+    public void discardResumePoint() {
+        Attempt current = attempt.get();
+        if (current != null) {
+            current.resumePoint = null;
+            current.resumed = false;
+            checkpoints.remove(current.caseKey);
+        }
+    }
+
+    /**
+     * Проверяет, что текущая попытка продолжена с точки, в которую заданный этап уже входит.
+     *
+     * @param stage этап пути.
+     * @return true, если этап можно пропустить.
+     */
+    public boolean isPassed(JourneyStage stage) {
+        Attempt current = attempt.get();
+        return current != null && current.resumed && current.resumePoint.getStage().covers(stage);
+    }
+
+    /**
+     * Возвращает количество товаров, проверенных до падения, если попытка продолжена с точки.
+     *
+     * @return курсор проверки товаров или 0.
+     */
+    public int verifiedItems() {
+        Attempt current = attempt.get();
+        return current != null && current.resumed ? current.resumePoint.getVerifiedItems() : 0;
+    }
+
+    /**
+     * Записывает точку пройденного этапа текущего теста.
+     *
+     * @param stage   пройденный этап.
+     * @param url     адрес страницы после этапа.
+     * @param applied фильтры, примененные на этом этапе.
+     */
+    public void record(JourneyStage stage, String url, Map<String, String> applied) {
+        Attempt current = attempt.get();
+        if (current == null) {
+            return;
+        }
+        JourneyCheckpoint previous = checkpoints.get(current.caseKey);
+        JourneyCheckpoint next = previous != null && stage != JourneyStage.CATALOG
+                ? previous.advance(stage, url, applied)
+                : new JourneyCheckpoint(current.caseKey, stage, url, applied, 0, System.currentTimeMillis());
+        checkpoints.put(current.caseKey, next);
+    }
+
+    /**
+     * Записывает точку пройденного этапа текущего теста без новых фильтров.
+     *
+     * @param stage пройденный этап.
+     * @param url   адрес страницы после этапа.
+     */
+    public void record(JourneyStage stage, String url) {
+        record(stage, url, Collections.emptyMap());
+    }
+
+    /**
+     * Сдвигает курсор проверки товаров текущего теста.
+     *
+     * @param verified количество товаров, проверенных по порядку выдачи.
+     */
+    public void advanceVerifiedItems(int verified) {
+        Attempt current = attempt.get();
+        if (current == null) {
+            return;
+        }
+        checkpoints.computeIfPresent(current.caseKey, (key, checkpoint) -> checkpoint.withVerifiedItems(verified));
+    }
+
+    /**
+     * Читает годную точку теста из файла.
+     */
+    private JourneyCheckpoint loadFresh(String caseKey) {
+        Path file = fileOf(caseKey);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            JourneyCheckpoint checkpoint = JourneyCheckpoint.load(file);
+            if (checkpoint.isFresh(ttl) && caseKey.equals(checkpoint.getCaseKey())) {
+                checkpoints.put(caseKey, checkpoint);
+                return checkpoint;
+            }
+        } catch (IOException | RuntimeException e) {
+            // испорченная или устаревшая точка: тест пройдет путь с начала
+        }
+        return null;
+    }
+
+    /**
+     * Возвращает файл точки теста. Имя файла выводится из ключа, поэтому не зависит от символов в данных теста.
+     */
+    private Path fileOf(String caseKey) {
+        return directory.resolve(UUID.nameUUIDFromBytes(caseKey.getBytes(StandardCharsets.UTF_8)) + ".json");
+    }
+
+    /**
+     * Состояние попытки теста в потоке.
+     */
+    private static class Attempt {
+        private final String caseKey;
+        private JourneyCheckpoint resumePoint;
+        private boolean resumed;
+
+        Attempt(String caseKey, JourneyCheckpoint resumePoint) {
+            this.caseKey = caseKey;
+            this.resumePoint = resumePoint;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.bellintegrator.checkpoint;
+
+import org.openqa.selenium.json.Json;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Контрольная точка пути теста: пройденный этап, адрес страницы после него, примененные фильтры
+ * и курсор проверки товаров, то есть количество уже проверенных по порядку выдачи товаров.
+ * Точка неизменяема, каждое продвижение создает новую точку.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class JourneyCheckpoint {
+
+    private final String caseKey;
+    private final JourneyStage stage;
+    private final String url;
+    private final Map<String, String> filters;
+    private final int verifiedItems;
+    private final long updatedAtMillis;
+
+    /**
+     * Конструктор класса JourneyCheckpoint.
+     *
+     * @param caseKey         ключ теста, которому принадлежит точка.
+     * @param stage           пройденный этап.
+     * @param url             адрес страницы после этапа.
+     * @param filters         примененные фильтры по именам.
+     * @param verifiedItems   количество проверенных товаров.
+     * @param updatedAtMillis время записи точки.
+     */
+    JourneyCheckpoint(String caseKey, JourneyStage stage, String url, Map<String, String> filters,
+                      int verifiedItems, long updatedAtMillis) {
+        this.caseKey = caseKey;
+        this.stage = stage;
+        this.url = url;
+        this.filters = Collections.unmodifiableMap(new LinkedHashMap<>(filters));
+        this.verifiedItems = verifiedItems;
+        this.updatedAtMillis = updatedAtMillis;
+    }
+
+    /**
+     * Создает точку следующего этапа. Фильтры дополняются, курсор проверки товаров сбрасывается.
+     *
+     * @param nextStage пройденный этап.
+     * @param nextUrl   адрес страницы после этапа.
+     * @param applied   фильтры, примененные на этом этапе.
+     * @return новая точка.
+     */
+    JourneyCheckpoint advance(JourneyStage nextStage, String nextUrl, Map<String, String> applied) {
+        Map<String, String> merged = new LinkedHashMap<>(filters);
+        merged.putAll(applied);
+        return new JourneyCheckpoint(caseKey, nextStage, nextUrl, merged, 0, System.currentTimeMillis());
+    }
+
+    /**
+     * Создает точку того же этапа с новым курсором проверки товаров.
+     *
+     * @param verified количество проверенных товаров.
+     * @return новая точка.
+     */
+    JourneyCheckpoint withVerifiedItems(int verified) {
+        return new JourneyCheckpoint(caseKey, stage, url, filters, verified, System.currentTimeMillis());
+    }
+
+    /**
+     * Читает точку из файла.
+     *
+     * @param file файл точки.
+     * @return контрольная точка.
+     * @throws IOException если файл не удалось прочитать.
+     */
+    @SuppressWarnings("unchecked")
+    static JourneyCheckpoint load(Path file) throws IOException {
+        Map<String, Object> json = new Json().toType(
+                new String(Files.readAllBytes(file), StandardCharsets.UTF_8), Json.MAP_TYPE);
+        Map<String, String> filters = new LinkedHashMap<>();
+        ((Map<String, Object>) json.get("filters")).forEach((name, value) -> filters.put(name, String.valueOf(value)));
+        return new JourneyCheckpoint((String) json.get("caseKey"), JourneyStage.valueOf((String) json.get("stage")),
+                (String) json.get("url"), filters, ((Number) json.get("verifiedItems")).intValue(),
+                ((Number) json.get("updatedAtMillis")).longValue());
+    }
+
+    /**
+     * Записывает точку в файл через временный файл, чтобы прерванная запись не испортила предыдущую точку.
+     *
+     * @param file файл точки.
+     * @throws IOException если файл не удалось записать.
+     */
+    void save(Path file) throws IOException {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("caseKey", caseKey);
+        json.put("stage", stage.name());
+        json.put("url", url);
+        json.put("filters", filters);
+        json.put("verifiedItems", verifiedItems);
+        json.put("updatedAtMillis", updatedAtMillis);
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temporary, new Json().toJson(json).getBytes(StandardCharsets.UTF_8));
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Проверяет, что точка моложе заданного срока.
+     *
+     * @param ttl срок годности точки.
+     * @return true, если точка еще годна.
+     */
+    boolean isFresh(Duration ttl) {
+        return System.currentTimeMillis() - updatedAtMillis < ttl.toMillis();
+    }
+
+    public String getCaseKey() {
+        return caseKey;
+    }
+
+    public JourneyStage getStage() {
+        return stage;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public Map<String, String> getFilters() {
+        return filters;
+    }
+
+    public int getVerifiedItems() {
+        return verifiedItems;
+    }
+
+    /**
+     * Описывает точку для отчета Allure.
+     *
+     * @return текстовое описание.
+     */
+    public String describe() {
+        return "Этап: " + stage + "\nАдрес: " + url + "\nФильтры: " + filters
+                + "\nПроверено товаров: " + verifiedItems;
+    }
+}
@@ -0,0 +1,36 @@
+package com.bellintegrator.checkpoint;
+
+/**
+ * Этапы пути теста по каталогу, после которых записывается контрольная точка.
+ * Этапы упорядочены: точка более позднего этапа включает все предыдущие.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum JourneyStage {
+
+    /**
+     * Открыта страница категории каталога: пройдены стартовая страница, предупреждения и меню.
+     */
+    CATALOG,
+
+    /**
+     * В каталоге установлен диапазон цен.
+     */
+    PRICE_RANGE,
+
+    /**
+     * В каталоге выбраны бренды: все фильтры применены.
+     */
+    BRANDS;
+
+    /**
+     * Проверяет, что этот этап не раньше заданного.
+     *
+     * @param stage этап для сравнения.
+     * @return true, если этап совпадает с заданным или следует за ним.
+     */
+    public boolean covers(JourneyStage stage) {
+        return compareTo(stage) >= 0;
+    }
+}
@@ -1,8 +1,13 @@
 package com.bellintegrator.data;
 
 import com.bellintegrator.properties.Properties;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.params.provider.Arguments;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Класс DataProvider предоставляет данные для параметризованных тестов.
@@ -18,23 +23,44 @@ public class DataProvider {
 
     /**
      * Предоставляет данные для третьего теста.
+     * Случаи читаются построчно из файла свойства data.test.four.file,
+     * при заданном свойстве shard остаются только случаи этой части.
+     * При заданном свойстве work.queue.run.id случаи раздаются через общую очередь {@link WorkQueue}
+     * расширением {@link WorkQueueExtension} теста: процесс выполняет только случаи, которые успел заявить первым.
+     * Если в часть не попало ни одного случая, тест пропускается, а не падает.
      *
      * @return Stream из аргументов, содержащих URL и текст для поиска на странице.
      */
     public static Stream<Arguments> dataForTestFour() {
-        return Stream.of(
-                Arguments.of(
-                        Properties.testsProperties.ozonUrl(),
-                        "ОК",
-                        "Электроника",
-                        "Ноутбуки",
-                        "https://www.ozon.ru/category/noutbuki-15692/",
-                        "Lenovo",
-                        "HP",
-                        "10000",
-                        "30000",
-                        "12"
-                )
-        );
+        Shard shard = Shard.fromProperties();
+        Stream<String[]> cases = TestCaseSource.read(Properties.testsProperties.dataTestFourFile(), shard,
+                "cookieButton", "menu", "innerMenu", "checkUrl",
+                "brandOne", "brandTwo", "minPrice", "maxPrice", "quantity");
+        return skipIfEmpty(shard, cases
+                .map(values -> {
+                    Object[] arguments = new Object[values.length + 1];
+                    arguments[0] = Properties.testsProperties.ozonUrl();
+                    System.arraycopy(values, 0, arguments, 1, values.length);
+                    return Arguments.of(arguments);
+                }));
+    }
+
+    /**
+     * Пропускает тест, если в части данных нет ни одного случая: JUnit считает пустой источник аргументов ошибкой.
+     * Проверяется только наличие первого случая, остальные по-прежнему читаются лениво.
+     *
+     * @param shard     часть данных.
+     * @param arguments поток аргументов.
+     * @return поток с теми же аргументами.
+     */
+    private static Stream<Arguments> skipIfEmpty(Shard shard, Stream<Arguments> arguments) {
+        Iterator<Arguments> iterator = arguments.iterator();
+        boolean empty = !iterator.hasNext();
+        if (empty) {
+            arguments.close();
+        }
+        Assumptions.assumeFalse(empty, "В части " + shard + " нет тестовых случаев");
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(arguments::close);
     }
 }
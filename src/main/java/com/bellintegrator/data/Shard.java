@@ -0,0 +1,113 @@
+package com.bellintegrator.data;
+
+import com.bellintegrator.properties.Properties;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Часть набора тестовых данных, выполняемая одним форком surefire или одним узлом CI.
+ * Задается свойством shard в виде "номер/всего", например -Dshard=3/16; номера начинаются с 1.
+ * Случай попадает в часть по 64-битному хешу FNV-1a своего ключа с перемешиванием битов, поэтому распределение не зависит
+ * от порядка строк в файле и от JVM: один и тот же случай всегда выполняется в одной и той же части.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class Shard {
+
+    /**
+     * Весь набор данных без разбиения.
+     */
+    public static final Shard ALL = new Shard(1, 1);
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final int index;
+    private final int total;
+
+    /**
+     * Конструктор класса Shard.
+     *
+     * @param index номер части, от 1 до total.
+     * @param total количество частей.
+     */
+    public Shard(int index, int total) {
+        if (total < 1 || index < 1 || index > total) {
+            throw new IllegalArgumentException("Некорректная часть данных " + index + "/" + total);
+        }
+        this.index = index;
+        this.total = total;
+    }
+
+    /**
+     * Разбирает часть из строки вида "номер/всего".
+     *
+     * @param shard строка с частью или пустая строка.
+     * @return часть данных; для пустой строки весь набор.
+     */
+    public static Shard parse(String shard) {
+        if (shard == null || shard.trim().isEmpty()) {
+            return ALL;
+        }
+        String[] parts = shard.trim().split("/");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Часть данных задается как номер/всего, получено: " + shard);
+        }
+        return new Shard(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+    }
+
+    /**
+     * Возвращает часть, заданную свойством shard.
+     *
+     * @return часть данных.
+     */
+    public static Shard fromProperties() {
+        return parse(Properties.testsProperties.shard());
+    }
+
+    /**
+     * Проверяет, относится ли случай к этой части.
+     *
+     * @param caseKey ключ случая.
+     * @return true, если случай выполняется в этой части.
+     */
+    public boolean owns(String caseKey) {
+        return total == 1 || Long.remainderUnsigned(mix(fnv1a(caseKey)), total) == index - 1;
+    }
+
+    /**
+     * Вычисляет 64-битный хеш FNV-1a от UTF-8 представления строки.
+     *
+     * @param value строка.
+     * @return хеш.
+     */
+    static long fnv1a(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * Перемешивает биты хеша: младшие биты FNV-1a зависят только от младших битов байтов строки,
+     * и без перемешивания остаток от деления на четное количество частей распределяется неравномерно.
+     *
+     * @param hash хеш.
+     * @return перемешанный хеш.
+     */
+    static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return index + "/" + total;
+    }
+}
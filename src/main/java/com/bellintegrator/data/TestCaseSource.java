@@ -0,0 +1,176 @@
+package com.bellintegrator.data;
+
+import org.openqa.selenium.json.Json;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Класс TestCaseSource читает тестовые случаи из файлов CSV и JSONL построчно, не загружая файл в память.
+ * В CSV первая строка содержит имена колонок, строки, начинающиеся с #, пропускаются;
+ * в JSONL каждая строка является JSON объектом с теми же именами полей.
+ * Порядок колонок в файле не важен: значения собираются в порядке, запрошенном тестом.
+ * Случаи отбираются по части {@link Shard}, ключом случая служат значения запрошенных колонок.
+ * Поток держит файл открытым, пока не будет закрыт; JUnit закрывает поток аргументов после использования.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class TestCaseSource {
+
+    /**
+     * Читает случаи из файла и отбирает случаи заданной части.
+     *
+     * @param file    путь к файлу .csv или .jsonl относительно рабочего каталога.
+     * @param shard   часть данных.
+     * @param columns имена колонок в порядке параметров теста.
+     * @return ленивый поток значений колонок каждого случая.
+     */
+    public static Stream<String[]> read(String file, Shard shard, String... columns) {
+        return rows(Paths.get(file))
+                .map(row -> values(row, columns, file))
+                .filter(values -> shard.owns(key(values)));
+    }
+
+    /**
+     * Возвращает ключ случая, по которому случай распределяется между частями и участниками очереди.
+     *
+     * @param values значения колонок случая.
+     * @return ключ случая.
+     */
+    public static String key(String[] values) {
+        return String.join("\u001f", values);
+    }
+
+    /**
+     * Читает строки файла как отображения "колонка - значение".
+     *
+     * @param file файл .csv или .jsonl.
+     * @return ленивый поток строк.
+     */
+    public static Stream<Map<String, String>> rows(Path file) {
+        BufferedReader reader;
+        try {
+            reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось открыть файл тестовых данных " + file, e);
+        }
+        String name = file.getFileName().toString();
+        Stream<Map<String, String>> rows;
+        if (name.endsWith(".jsonl")) {
+            Json json = new Json();
+            rows = reader.lines()
+                    .filter(line -> !line.trim().isEmpty())
+                    .map(line -> jsonRow(json, line));
+        } else if (name.endsWith(".csv")) {
+            List<String> header = parseCsvLine(nextCsvLine(reader, file));
+            rows = reader.lines()
+                    .filter(line -> !line.trim().isEmpty() && !line.startsWith("#"))
+                    .map(line -> csvRow(header, parseCsvLine(line)));
+        } else {
+            closeQuietly(reader);
+            throw new IllegalArgumentException("Неизвестный формат тестовых данных: " + file);
+        }
+        return rows.onClose(() -> closeQuietly(reader));
+    }
+
+    /**
+     * Разбирает строку CSV с разделителем "," и значениями в двойных кавычках; "" внутри кавычек означает кавычку.
+     *
+     * @param line строка CSV.
+     * @return значения колонок.
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString().trim());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString().trim());
+        return values;
+    }
+
+    private static String[] values(Map<String, String> row, String[] columns, String file) {
+        String[] values = new String[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            values[i] = row.get(columns[i]);
+            if (values[i] == null) {
+                throw new IllegalArgumentException("В файле " + file + " нет значения колонки " + columns[i]
+                        + " в строке " + row);
+            }
+        }
+        return values;
+    }
+
+    private static Map<String, String> csvRow(List<String> header, List<String> values) {
+        Map<String, String> row = new LinkedHashMap<>();
+        for (int i = 0; i < header.size() && i < values.size(); i++) {
+            row.put(header.get(i), values.get(i));
+        }
+        return row;
+    }
+
+    private static Map<String, String> jsonRow(Json json, String line) {
+        Map<String, Object> object = json.toType(line, Json.MAP_TYPE);
+        Map<String, String> row = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : object.entrySet()) {
+            row.put(entry.getKey(), Objects.toString(entry.getValue(), null));
+        }
+        return row;
+    }
+
+    /**
+     * Возвращает первую значимую строку CSV - заголовок.
+     */
+    private static String nextCsvLine(BufferedReader reader, Path file) {
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.trim().isEmpty() && !line.startsWith("#")) {
+                    return line.startsWith("\uFEFF") ? line.substring(1) : line;
+                }
+            }
+        } catch (IOException e) {
+            closeQuietly(reader);
+            throw new UncheckedIOException("Не удалось прочитать файл тестовых данных " + file, e);
+        }
+        closeQuietly(reader);
+        throw new IllegalArgumentException("В файле тестовых данных нет заголовка: " + file);
+    }
+
+    private static void closeQuietly(BufferedReader reader) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.bellintegrator.data;
+
+import com.bellintegrator.properties.Properties;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Общая очередь тестовых случаев для нескольких процессов: форков surefire, запущенных параллельно сборок
+ * или узлов CI с общим каталогом. Все участники получают один и тот же набор случаев, но выполняет случай
+ * только тот, кто первым атомарно создал файл-заявку в каталоге запуска. Заявка делается непосредственно
+ * перед выполнением теста в {@link WorkQueueExtension}, а не при выдаче аргументов: в режиме concurrent
+ * JUnit выбирает все аргументы заранее. Поэтому освободившийся участник сразу берет следующий случай,
+ * и общее время определяется объемом работы, а не самой медленной статической частью.
+ * Случай помечается файлом .done после завершения теста; заявку, не завершенную дольше TTL, может забрать
+ * другой участник - так случаи упавшего процесса не теряются.
+ * Каждый участник отчитывается о своих случаях в обычных отчетах JUnit и Allure,
+ * случаи других участников у него пропускаются.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class WorkQueue {
+
+    private static final String CLAIM = ".claim";
+    private static final String DONE = ".done";
+
+    private final Path directory;
+    private final Duration claimTtl;
+    private final String participant;
+    private final Set<String> owned = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Конструктор класса WorkQueue.
+     *
+     * @param directory   каталог заявок запуска, общий для всех участников.
+     * @param claimTtl    время, после которого незавершенную заявку может забрать другой участник.
+     * @param participant имя текущего участника для диагностики.
+     */
+    public WorkQueue(Path directory, Duration claimTtl, String participant) {
+        this.directory = directory;
+        this.claimTtl = claimTtl;
+        this.participant = participant;
+    }
+
+    /**
+     * Возвращает очередь запуска из свойства work.queue.run.id.
+     *
+     * @return очередь или null, если идентификатор запуска не задан и очередь не используется.
+     */
+    public static WorkQueue fromProperties() {
+        String runId = Properties.testsProperties.workQueueRunId().trim();
+        if (runId.isEmpty()) {
+            return null;
+        }
+        return new WorkQueue(Paths.get(Properties.testsProperties.workQueueDirectory(), runId),
+                Duration.ofMinutes(Properties.testsProperties.workQueueClaimTtlMinutes()),
+                ManagementFactory.getRuntimeMXBean().getName());
+    }
+
+    /**
+     * Пытается заявить случай за текущим участником.
+     *
+     * @param caseKey ключ случая.
+     * @return имя файла заявки или null, если случай выполнен или выполняется другим участником.
+     */
+    String tryClaim(String caseKey) {
+        String name = Long.toHexString(Shard.mix(Shard.fnv1a(caseKey)));
+        if (owned.contains(name)) {
+            // повтор случая тем же участником, например rerunFailingTestsCount
+            return name;
+        }
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось создать каталог очереди " + directory, e);
+        }
+        if (Files.exists(directory.resolve(name + DONE))) {
+            return null;
+        }
+        Path claim = directory.resolve(name + CLAIM);
+        if (create(claim, caseKey)) {
+            owned.add(name);
+            return name;
+        }
+        try {
+            long age = System.currentTimeMillis() - Files.getLastModifiedTime(claim).toMillis();
+            if (age < claimTtl.toMillis()) {
+                return null;
+            }
+            // переименование удается только одному участнику, поэтому просроченную заявку забирает один
+            Files.move(claim, directory.resolve(name + ".stale." + ProcessHandle.current().pid()),
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось проверить заявку " + claim, e);
+        }
+        if (create(claim, caseKey)) {
+            owned.add(name);
+            return name;
+        }
+        return null;
+    }
+
+    /**
+     * Помечает заявленный случай выполненным. Повторное завершение того же случая ничего не меняет.
+     *
+     * @param name имя файла заявки.
+     */
+    void complete(String name) {
+        if (Files.exists(directory.resolve(name + DONE))) {
+            return;
+        }
+        try {
+            Files.move(directory.resolve(name + CLAIM), directory.resolve(name + DONE),
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (NoSuchFileException e) {
+            // заявку забрал другой участник после истечения TTL
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось завершить заявку " + name, e);
+        }
+    }
+
+    /**
+     * Создает файл заявки. Если случай успели завершить между проверкой .done и созданием заявки
+     * (завершение переименовывает заявку, освобождая ее имя), созданная заявка удаляется.
+     */
+    private boolean create(Path claim, String caseKey) {
+        try {
+            Files.write(Files.createFile(claim), (participant + "\n" + caseKey).getBytes(StandardCharsets.UTF_8));
+            String name = claim.getFileName().toString();
+            if (Files.exists(claim.resolveSibling(name.substring(0, name.length() - CLAIM.length()) + DONE))) {
+                Files.delete(claim);
+                return false;
+            }
+            return true;
+        } catch (FileAlreadyExistsException e) {
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось создать заявку " + claim, e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.bellintegrator.data;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Расширение JUnit, раздающее вызовы параметризованного теста через общую очередь {@link WorkQueue}.
+ * Заявка на случай делается непосредственно перед выполнением вызова и помечается выполненной после него,
+ * поэтому работает и в режиме concurrent, где JUnit заранее выбирает все аргументы.
+ * Случай, заявленный другим участником, пропускается. Если процесс упал во время выполнения случая,
+ * заявка остается незавершенной, и после work.queue.claim.ttl.minutes ее забирает другой участник.
+ * Без свойства work.queue.run.id расширение ничего не делает.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class WorkQueueExtension implements InvocationInterceptor {
+
+    @Override
+    public void interceptTestTemplateMethod(Invocation<Void> invocation,
+                                            ReflectiveInvocationContext<Method> invocationContext,
+                                            ExtensionContext extensionContext) throws Throwable {
+        WorkQueue workQueue = QueueHolder.QUEUE;
+        if (workQueue == null) {
+            invocation.proceed();
+            return;
+        }
+        String claim = workQueue.tryClaim(caseKey(invocationContext.getArguments()));
+        if (claim == null) {
+            invocation.skip();
+            Assumptions.assumeTrue(false, "Случай выполняется или выполнен другим участником очереди");
+            return;
+        }
+        try {
+            invocation.proceed();
+        } finally {
+            workQueue.complete(claim);
+        }
+    }
+
+    /**
+     * Составляет ключ случая из аргументов вызова, одинаковый у всех участников.
+     */
+    private static String caseKey(List<Object> arguments) {
+        String[] values = new String[arguments.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = String.valueOf(arguments.get(i));
+        }
+        return TestCaseSource.key(values);
+    }
+
+    /**
+     * Очередь запуска, создаваемая при первом обращении.
+     */
+    private static class QueueHolder {
+        private static final WorkQueue QUEUE = WorkQueue.fromProperties();
+    }
+}
@@ -0,0 +1,119 @@
+package com.bellintegrator.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Класс LatencyHistogram накапливает длительности в микросекундах в лог-линейной гистограмме.
+ * Значения до 64 мкс хранятся точно, дальше каждый интервал [2^k, 2^(k+1)) делится на 32 корзины,
+ * поэтому погрешность перцентилей не превышает 1/32 (около 3%).
+ * Запись выполняется без блокировок и не выделяет память, поэтому ее можно вызывать из любых потоков.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKETS * 2;
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKETS = LINEAR_LIMIT + (MAX_EXPONENT - SUB_BUCKET_BITS - 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Записывает длительность.
+     *
+     * @param micros длительность в микросекундах.
+     */
+    public void record(long micros) {
+        long value = Math.max(0, micros);
+        counts.incrementAndGet(indexOf(value));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Возвращает количество записанных значений.
+     *
+     * @return количество значений.
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Возвращает сумму записанных значений.
+     *
+     * @return сумма в микросекундах.
+     */
+    public long getSum() {
+        return sum.get();
+    }
+
+    /**
+     * Возвращает максимальное записанное значение.
+     *
+     * @return максимум в микросекундах.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Оценивает перцентиль по корзинам гистограммы.
+     *
+     * @param percentile перцентиль от 0 до 100.
+     * @return верхняя граница корзины, в которую попадает перцентиль, в микросекундах,
+     * но не больше максимального записанного значения; 0, если значений нет.
+     */
+    public long getPercentile(double percentile) {
+        long total = count.get();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Вычисляет номер корзины для значения.
+     */
+    static int indexOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent >= MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int shift = exponent - SUB_BUCKET_BITS;
+        int mantissa = (int) (value >>> shift) - SUB_BUCKETS;
+        return LINEAR_LIMIT + (exponent - SUB_BUCKET_BITS - 1) * SUB_BUCKETS + mantissa;
+    }
+
+    /**
+     * Вычисляет наибольшее значение, попадающее в корзину.
+     */
+    static long upperBoundOf(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int exponent = (index - LINEAR_LIMIT) / SUB_BUCKETS + SUB_BUCKET_BITS + 1;
+        int mantissa = (index - LINEAR_LIMIT) % SUB_BUCKETS + SUB_BUCKETS;
+        int shift = exponent - SUB_BUCKET_BITS;
+        return (((long) mantissa + 1) << shift) - 1;
+    }
+}
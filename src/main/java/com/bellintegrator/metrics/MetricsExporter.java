@@ -0,0 +1,109 @@
+package com.bellintegrator.metrics;
+
+import org.openqa.selenium.json.Json;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Класс MetricsExporter записывает гистограммы шагов в файлы step-latency.json
+ * и step-latency.prom (текстовый формат Prometheus, метрика типа summary).
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class MetricsExporter {
+
+    private static final double[] PERCENTILES = {50, 95, 99};
+
+    /**
+     * Записывает гистограммы в каталог, создавая его при необходимости.
+     *
+     * @param histograms гистограммы шагов.
+     * @param directory  каталог для файлов метрик.
+     * @throws IOException если файлы не удалось записать.
+     */
+    public static void export(Map<StepKey, LatencyHistogram> histograms, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Files.write(directory.resolve("step-latency.json"),
+                toJson(histograms).getBytes(StandardCharsets.UTF_8));
+        Files.write(directory.resolve("step-latency.prom"),
+                toPrometheus(histograms).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Формирует JSON с отметкой времени прогона и перцентилями каждого шага в миллисекундах.
+     *
+     * @param histograms гистограммы шагов.
+     * @return JSON документ.
+     */
+    public static String toJson(Map<StepKey, LatencyHistogram> histograms) {
+        List<Map<String, Object>> steps = new ArrayList<>();
+        for (Map.Entry<StepKey, LatencyHistogram> entry : histograms.entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            Map<String, Object> step = new LinkedHashMap<>();
+            step.put("step", entry.getKey().getStep());
+            step.put("argumentTypes", entry.getKey().getArgumentTypes());
+            step.put("count", histogram.getCount());
+            step.put("sumMillis", millis(histogram.getSum()));
+            step.put("maxMillis", millis(histogram.getMax()));
+            for (double percentile : PERCENTILES) {
+                step.put("p" + (int) percentile + "Millis", millis(histogram.getPercentile(percentile)));
+            }
+            steps.add(step);
+        }
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("timestamp", Instant.now().toString());
+        document.put("steps", steps);
+        return new Json().toJson(document);
+    }
+
+    /**
+     * Формирует метрику step_latency_seconds в текстовом формате Prometheus.
+     *
+     * @param histograms гистограммы шагов.
+     * @return текст метрик.
+     */
+    public static String toPrometheus(Map<StepKey, LatencyHistogram> histograms) {
+        StringBuilder text = new StringBuilder();
+        text.append("# HELP step_latency_seconds Wall-clock latency of Allure steps.\n");
+        text.append("# TYPE step_latency_seconds summary\n");
+        for (Map.Entry<StepKey, LatencyHistogram> entry : histograms.entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            String labels = "step=\"" + escape(entry.getKey().getStep()) +
+                    "\",arguments=\"" + escape(entry.getKey().getArgumentTypes()) + "\"";
+            for (double percentile : PERCENTILES) {
+                text.append("step_latency_seconds{").append(labels)
+                        .append(",quantile=\"").append(percentile / 100).append("\"} ")
+                        .append(seconds(histogram.getPercentile(percentile))).append('\n');
+            }
+            text.append("step_latency_seconds_sum{").append(labels).append("} ")
+                    .append(seconds(histogram.getSum())).append('\n');
+            text.append("step_latency_seconds_count{").append(labels).append("} ")
+                    .append(histogram.getCount()).append('\n');
+        }
+        return text.toString();
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static String seconds(long micros) {
+        return String.format(Locale.ROOT, "%.6f", micros / 1_000_000.0);
+    }
+
+    /**
+     * Экранирует значение метки Prometheus.
+     */
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
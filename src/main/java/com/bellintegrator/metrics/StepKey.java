@@ -0,0 +1,62 @@
+package com.bellintegrator.metrics;
+
+import java.util.Objects;
+
+/**
+ * Ключ метрики шага: имя шага в виде Класс.метод и классы фактических аргументов.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class StepKey implements Comparable<StepKey> {
+
+    private final String step;
+    private final String argumentTypes;
+
+    /**
+     * Конструктор класса StepKey.
+     *
+     * @param step          имя шага в виде Класс.метод.
+     * @param argumentTypes простые имена классов аргументов через запятую.
+     */
+    public StepKey(String step, String argumentTypes) {
+        this.step = step;
+        this.argumentTypes = argumentTypes;
+    }
+
+    public String getStep() {
+        return step;
+    }
+
+    public String getArgumentTypes() {
+        return argumentTypes;
+    }
+
+    @Override
+    public int compareTo(StepKey other) {
+        int byStep = step.compareTo(other.step);
+        return byStep != 0 ? byStep : argumentTypes.compareTo(other.argumentTypes);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof StepKey)) {
+            return false;
+        }
+        StepKey other = (StepKey) o;
+        return step.equals(other.step) && argumentTypes.equals(other.argumentTypes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(step, argumentTypes);
+    }
+
+    @Override
+    public String toString() {
+        return step + "(" + argumentTypes + ")";
+    }
+}
@@ -0,0 +1,39 @@
+package com.bellintegrator.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.DeclarePrecedence;
+
+/**
+ * Аспект, измеряющий длительность каждого метода проекта, помеченного {@link io.qameta.allure.Step}.
+ * Вплетается агентом aspectjweaver, который уже подключен в surefire для Allure (см. META-INF/aop.xml).
+ * Аспект Allure выполняется снаружи, поэтому в длительность не входит запись шага в отчет.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Aspect
+@DeclarePrecedence("io.qameta.allure.aspects.StepsAspects, com.bellintegrator.metrics.StepLatencyAspect")
+public class StepLatencyAspect {
+
+    /**
+     * Выполняет шаг и записывает его длительность в {@link StepMetricsRegistry}, в том числе при исключении.
+     *
+     * @param joinPoint выполняемый шаг.
+     * @return результат шага.
+     * @throws Throwable исключение, выброшенное шагом.
+     */
+    @Around("execution(@io.qameta.allure.Step * com.bellintegrator..*(..))")
+    public Object measureStep(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            StepMetricsRegistry.getInstance().record(
+                    joinPoint.getSignature().getDeclaringType().getSimpleName() + "." +
+                            joinPoint.getSignature().getName(),
+                    joinPoint.getArgs(), System.nanoTime() - start);
+        }
+    }
+}
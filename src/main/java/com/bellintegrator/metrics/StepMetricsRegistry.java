@@ -0,0 +1,90 @@
+package com.bellintegrator.metrics;
+
+import com.bellintegrator.properties.Properties;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Реестр гистограмм длительности шагов Allure.
+ * Гистограммы заводятся по ключу {@link StepKey} при первом выполнении шага,
+ * а при завершении JVM выгружаются через {@link MetricsExporter} в каталог из свойства metrics.steps.directory.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class StepMetricsRegistry {
+
+    private static final StepMetricsRegistry INSTANCE = new StepMetricsRegistry();
+
+    private final ConcurrentMap<StepKey, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Конструктор реестра. Регистрирует выгрузку метрик при завершении JVM.
+     */
+    private StepMetricsRegistry() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::export, "step-metrics-export"));
+    }
+
+    /**
+     * Возвращает общий реестр метрик шагов.
+     *
+     * @return экземпляр реестра.
+     */
+    public static StepMetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Записывает длительность выполнения шага.
+     *
+     * @param step      имя шага в виде Класс.метод.
+     * @param arguments фактические аргументы шага.
+     * @param nanos     длительность в наносекундах.
+     */
+    public void record(String step, Object[] arguments, long nanos) {
+        StepKey key = new StepKey(step, describeTypes(arguments));
+        histograms.computeIfAbsent(key, k -> new LatencyHistogram()).record(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    /**
+     * Возвращает гистограммы всех выполненных шагов, упорядоченные по ключу.
+     *
+     * @return снимок реестра.
+     */
+    public Map<StepKey, LatencyHistogram> snapshot() {
+        return new TreeMap<>(histograms);
+    }
+
+    /**
+     * Выгружает метрики в файлы. Вызывается при завершении JVM.
+     */
+    private void export() {
+        if (histograms.isEmpty()) {
+            return;
+        }
+        try {
+            MetricsExporter.export(snapshot(), Paths.get(Properties.testsProperties.metricsStepsDirectory()));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Формирует список простых имен классов аргументов.
+     */
+    private static String describeTypes(Object[] arguments) {
+        StringBuilder types = new StringBuilder();
+        for (Object argument : arguments) {
+            if (types.length() > 0) {
+                types.append(',');
+            }
+            types.append(argument == null ? "null" : argument.getClass().getSimpleName());
+        }
+        return types.toString();
+    }
+}
@@ -0,0 +1,38 @@
+package com.bellintegrator.pages;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Объявляет виджеты (элементы с атрибутом data-widget), без которых страница не готова к работе.
+ * Страница считается готовой, когда в документе есть каждый из перечисленных виджетов.
+ * Элемент вида "webPrice|webOutOfStock" означает, что достаточно любого из вариантов.
+ * Страница, которая может сначала открыться промежуточным экраном без виджетов (например, проверкой
+ * с кнопкой "Обновить"), объявляет его в {@link #interstitial()}: переход на такую страницу завершается
+ * и на промежуточном экране, а виджеты ожидаются после шага, который его проходит.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface RequiredWidgets {
+
+    /**
+     * Имена обязательных виджетов.
+     *
+     * @return массив имен виджетов.
+     */
+    String[] value();
+
+    /**
+     * XPath элемента промежуточного экрана, который тоже завершает переход на страницу.
+     *
+     * @return XPath или пустая строка, если промежуточного экрана нет.
+     */
+    String interstitial() default "";
+}
@@ -0,0 +1,117 @@
+package com.bellintegrator.pages.ozon;
+
+import java.util.Map;
+
+/**
+ * Класс CatalogCard содержит данные карточки товара из результатов поиска на странице каталога Ozon.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class CatalogCard {
+
+    private final String title;
+    private final String href;
+    private final String displayedPrice;
+    private final String cardPrice;
+    private final String brandHint;
+
+    /**
+     * Конструктор класса CatalogCard.
+     *
+     * @param title          название товара.
+     * @param href           ссылка на страницу товара.
+     * @param displayedPrice текст цены без карты Ozon или null, если цена не найдена.
+     * @param cardPrice      текст цены с картой Ozon или null, если ее нет на карточке.
+     */
+    public CatalogCard(String title, String href, String displayedPrice, String cardPrice) {
+        this.title = title;
+        this.href = href;
+        this.displayedPrice = displayedPrice;
+        this.cardPrice = cardPrice;
+        this.brandHint = findBrandHint(title);
+    }
+
+    /**
+     * Создает карточку из объекта, возвращенного скриптом извлечения карточек.
+     *
+     * @param values значения полей карточки.
+     * @return карточка товара.
+     */
+    static CatalogCard fromScriptResult(Map<?, ?> values) {
+        return new CatalogCard((String) values.get("title"), (String) values.get("href"),
+                (String) values.get("displayedPrice"), (String) values.get("cardPrice"));
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getHref() {
+        return href;
+    }
+
+    public String getDisplayedPrice() {
+        return displayedPrice;
+    }
+
+    public String getCardPrice() {
+        return cardPrice;
+    }
+
+    /**
+     * Возвращает ключ товара: ссылку без параметров, одинаковую для всех карточек и страниц выдачи с этим товаром.
+     *
+     * @return ключ товара.
+     */
+    public String getKey() {
+        return keyOf(href);
+    }
+
+    /**
+     * Возвращает ключ товара по ссылке: ссылку без фрагмента и параметров.
+     * Функция keyOf скриптов {@link OzonCatalogPage#CARD_FUNCTIONS} строит ключ по тому же правилу,
+     * поэтому скрипты и Java отбрасывают повторы одних и тех же карточек.
+     *
+     * @param href ссылка на страницу товара.
+     * @return ключ товара.
+     */
+    public static String keyOf(String href) {
+        int end = href.indexOf('#');
+        String withoutFragment = end >= 0 ? href.substring(0, end) : href;
+        end = withoutFragment.indexOf('?');
+        return end >= 0 ? withoutFragment.substring(0, end) : withoutFragment;
+    }
+
+    /**
+     * Возвращает предполагаемый бренд: первое слово названия, записанное латиницей.
+     * Названия на Ozon обычно начинаются с типа товара на русском языке ("Ноутбук Lenovo ..."),
+     * а бренд записывается латиницей.
+     *
+     * @return предполагаемый бренд или null, если в названии нет слов латиницей.
+     */
+    public String getBrandHint() {
+        return brandHint;
+    }
+
+    /**
+     * Ищет в названии первое слово, начинающееся с латинской буквы.
+     */
+    private static String findBrandHint(String title) {
+        if (title == null) {
+            return null;
+        }
+        for (String word : title.split("[\\s,()]+")) {
+            if (!word.isEmpty() && ((word.charAt(0) >= 'A' && word.charAt(0) <= 'Z')
+                    || (word.charAt(0) >= 'a' && word.charAt(0) <= 'z'))) {
+                return word;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return title + " | " + displayedPrice + " | " + cardPrice + " | " + href;
+    }
+}
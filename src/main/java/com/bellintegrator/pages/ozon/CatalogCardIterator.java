@@ -0,0 +1,133 @@
+package com.bellintegrator.pages.ozon;
+
+import com.bellintegrator.readiness.WidgetReadiness;
+import org.openqa.selenium.WebDriver;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Итератор по карточкам всех страниц выдачи каталога Ozon.
+ * Первая страница - уже открытая в браузере, следующие открываются по параметру page только тогда,
+ * когда потребитель дочитал текущую. В памяти хранятся карточки текущей страницы и ссылки предыдущей:
+ * по ним определяется конец выдачи, так как после последней страницы Ozon повторяет ее содержимое,
+ * и отбрасываются карточки, которые сдвинулись на следующую страницу и уже были выданы.
+ * Карточки содержат только данные, ссылок на элементы страницы не остается.
+ * При закрытии итератор возвращает браузер на исходный URL, если открывал другие страницы.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class CatalogCardIterator implements Iterator<CatalogCard>, AutoCloseable {
+
+    private final OzonCatalogPage catalogPage;
+    private final WebDriver webDriver;
+    private final String originUrl;
+    private final int maxPages;
+    private int pageNumber;
+    private Iterator<CatalogCard> pageCards;
+    private Set<String> previousKeys = new HashSet<>();
+    private boolean exhausted;
+
+    /**
+     * Конструктор класса CatalogCardIterator.
+     *
+     * @param catalogPage страница каталога, открытая в браузере.
+     * @param webDriver   сессия, в которой открыта страница каталога.
+     * @param maxPages    максимальное количество страниц; 0 и меньше - без ограничения.
+     */
+    CatalogCardIterator(OzonCatalogPage catalogPage, WebDriver webDriver, int maxPages) {
+        this.catalogPage = catalogPage;
+        this.webDriver = webDriver;
+        this.originUrl = webDriver.getCurrentUrl();
+        this.maxPages = maxPages;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!exhausted && (pageCards == null || !pageCards.hasNext())) {
+            loadNextPage();
+        }
+        return !exhausted;
+    }
+
+    @Override
+    public CatalogCard next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return pageCards.next();
+    }
+
+    /**
+     * Возвращает браузер на исходную страницу каталога.
+     */
+    @Override
+    public void close() {
+        if (pageNumber > 1) {
+            WidgetReadiness.open(webDriver, originUrl, OzonCatalogPage.class);
+            pageNumber = 1;
+        }
+    }
+
+    /**
+     * Загружает следующую страницу выдачи или отмечает конец выдачи.
+     */
+    private void loadNextPage() {
+        if (maxPages > 0 && pageNumber >= maxPages) {
+            exhausted = true;
+            return;
+        }
+        List<CatalogCard> cards;
+        if (pageNumber == 0) {
+            cards = catalogPage.extractCards();
+        } else {
+            WidgetReadiness.open(webDriver, withPage(originUrl, pageNumber + 1), OzonCatalogPage.class);
+            cards = catalogPage.extractRenderedCards();
+        }
+        pageNumber++;
+        Set<String> keys = new HashSet<>();
+        List<CatalogCard> newCards = new ArrayList<>(cards.size());
+        for (CatalogCard card : cards) {
+            String key = card.getKey();
+            keys.add(key);
+            if (!previousKeys.contains(key)) {
+                newCards.add(card);
+            }
+        }
+        if (newCards.isEmpty()) {
+            exhausted = true;
+            return;
+        }
+        previousKeys = keys;
+        pageCards = newCards.iterator();
+    }
+
+    /**
+     * Возвращает URL страницы выдачи с заданным номером, сохраняя остальные параметры.
+     *
+     * @param url        URL каталога.
+     * @param pageNumber номер страницы, начиная с 1.
+     * @return URL страницы.
+     */
+    static String withPage(String url, int pageNumber) {
+        int hash = url.indexOf('#');
+        String base = hash >= 0 ? url.substring(0, hash) : url;
+        int question = base.indexOf('?');
+        StringBuilder result = new StringBuilder(question >= 0 ? base.substring(0, question) : base);
+        char separator = '?';
+        if (question >= 0) {
+            for (String parameter : base.substring(question + 1).split("&")) {
+                if (parameter.isEmpty() || parameter.equals("page") || parameter.startsWith("page=")) {
+                    continue;
+                }
+                result.append(separator).append(parameter);
+                separator = '&';
+            }
+        }
+        return result.append(separator).append("page=").append(pageNumber).toString();
+    }
+}
@@ -0,0 +1,262 @@
+package com.bellintegrator.pages.ozon;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Класс CatalogFilter описывает отфильтрованную выдачу каталога Ozon: категорию, диапазон цен и бренды.
+ * Фильтр переводится в адрес вида category/{slug}/?currency_price=10000.000;30000.000&amp;brand=id1,id2
+ * и разбирается из такого адреса, поэтому тест может открыть отфильтрованную выдачу одним переходом,
+ * не проходя меню каталога и панель фильтров.
+ * Остальные параметры запроса, кроме номера страницы, сохраняются как есть.
+ * Фильтр неизменяем, каждый метод with создает новый фильтр.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class CatalogFilter {
+
+    private static final String CATEGORY_PATH = "/category/";
+    private static final String PRICE_PARAMETER = "currency_price";
+    private static final String BRAND_PARAMETER = "brand";
+    private static final String PAGE_PARAMETER = "page";
+    private static final Pattern SLUG = Pattern.compile("[a-z0-9-]+");
+    private static final Pattern BRAND_ID = Pattern.compile("[0-9]+");
+
+    private final String categorySlug;
+    private final Long minPrice;
+    private final Long maxPrice;
+    private final List<String> brandIds;
+    private final Map<String, String> otherParameters;
+
+    private CatalogFilter(String categorySlug, Long minPrice, Long maxPrice, List<String> brandIds,
+                          Map<String, String> otherParameters) {
+        if (categorySlug == null || !SLUG.matcher(categorySlug).matches()) {
+            throw new IllegalArgumentException("Некорректная категория каталога: " + categorySlug);
+        }
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            throw new IllegalArgumentException("Минимальная цена " + minPrice + " больше максимальной " + maxPrice);
+        }
+        for (String brandId : brandIds) {
+            if (!BRAND_ID.matcher(brandId).matches()) {
+                throw new IllegalArgumentException("Некорректный идентификатор бренда: " + brandId);
+            }
+        }
+        this.categorySlug = categorySlug;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+        this.brandIds = Collections.unmodifiableList(new ArrayList<>(brandIds));
+        this.otherParameters = Collections.unmodifiableMap(new LinkedHashMap<>(otherParameters));
+    }
+
+    /**
+     * Создает фильтр категории без ограничений.
+     *
+     * @param categorySlug имя категории в адресе каталога, например noutbuki-15692.
+     * @return фильтр категории.
+     */
+    public static CatalogFilter category(String categorySlug) {
+        return new CatalogFilter(categorySlug, null, null, Collections.emptyList(), Collections.emptyMap());
+    }
+
+    /**
+     * Разбирает фильтр из адреса выдачи каталога.
+     * Цены с копейками расширяют диапазон до целых рублей, чтобы фильтр не исключил товары на границах.
+     *
+     * @param url адрес страницы каталога.
+     * @return фильтр выдачи.
+     * @throws IllegalArgumentException если адрес не относится к категории каталога или параметры фильтра некорректны.
+     */
+    public static CatalogFilter parse(String url) {
+        int hash = url.indexOf('#');
+        String base = hash >= 0 ? url.substring(0, hash) : url;
+        int question = base.indexOf('?');
+        String path = question >= 0 ? base.substring(0, question) : base;
+        int category = path.indexOf(CATEGORY_PATH);
+        if (category < 0) {
+            throw new IllegalArgumentException("Адрес не относится к категории каталога: " + url);
+        }
+        String slug = path.substring(category + CATEGORY_PATH.length());
+        int slash = slug.indexOf('/');
+        if (slash >= 0) {
+            slug = slug.substring(0, slash);
+        }
+        Long minPrice = null;
+        Long maxPrice = null;
+        List<String> brandIds = new ArrayList<>();
+        Map<String, String> otherParameters = new LinkedHashMap<>();
+        if (question >= 0) {
+            for (String parameter : base.substring(question + 1).split("&")) {
+                if (parameter.isEmpty()) {
+                    continue;
+                }
+                int equals = parameter.indexOf('=');
+                String name = decode(equals >= 0 ? parameter.substring(0, equals) : parameter);
+                String value = equals >= 0 ? decode(parameter.substring(equals + 1)) : "";
+                if (PRICE_PARAMETER.equals(name)) {
+                    int separator = value.indexOf(';');
+                    if (separator < 0) {
+                        throw new IllegalArgumentException("Некорректный диапазон цен: " + value);
+                    }
+                    minPrice = parseRubles(value.substring(0, separator), RoundingMode.FLOOR);
+                    maxPrice = parseRubles(value.substring(separator + 1), RoundingMode.CEILING);
+                } else if (BRAND_PARAMETER.equals(name)) {
+                    for (String brandId : value.split(",")) {
+                        if (!brandId.isEmpty()) {
+                            brandIds.add(brandId);
+                        }
+                    }
+                } else if (!PAGE_PARAMETER.equals(name)) {
+                    otherParameters.put(name, value);
+                }
+            }
+        }
+        return new CatalogFilter(slug, minPrice, maxPrice, brandIds, otherParameters);
+    }
+
+    /**
+     * Создает фильтр с заданным диапазоном цен.
+     *
+     * @param minPrice минимальная цена в рублях или null без нижней границы.
+     * @param maxPrice максимальная цена в рублях или null без верхней границы.
+     * @return новый фильтр.
+     */
+    public CatalogFilter withPriceRange(Long minPrice, Long maxPrice) {
+        return new CatalogFilter(categorySlug, minPrice, maxPrice, brandIds, otherParameters);
+    }
+
+    /**
+     * Создает фильтр с заданными брендами вместо текущих.
+     *
+     * @param brandIds идентификаторы брендов Ozon.
+     * @return новый фильтр.
+     */
+    public CatalogFilter withBrands(String... brandIds) {
+        return new CatalogFilter(categorySlug, minPrice, maxPrice, Arrays.asList(brandIds), otherParameters);
+    }
+
+    /**
+     * Создает фильтр с дополнительным параметром запроса, например сортировкой.
+     *
+     * @param name  имя параметра.
+     * @param value значение параметра.
+     * @return новый фильтр.
+     */
+    public CatalogFilter withParameter(String name, String value) {
+        if (PRICE_PARAMETER.equals(name) || BRAND_PARAMETER.equals(name) || PAGE_PARAMETER.equals(name)) {
+            throw new IllegalArgumentException("Параметр " + name + " задается отдельным методом");
+        }
+        Map<String, String> parameters = new LinkedHashMap<>(otherParameters);
+        parameters.put(name, value);
+        return new CatalogFilter(categorySlug, minPrice, maxPrice, brandIds, parameters);
+    }
+
+    /**
+     * Переводит фильтр в адрес первой страницы отфильтрованной выдачи.
+     *
+     * @param baseUrl адрес сайта, например https://www.ozon.ru/.
+     * @return адрес выдачи каталога.
+     */
+    public String toUrl(String baseUrl) {
+        StringBuilder url = new StringBuilder(baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl)
+                .append(CATEGORY_PATH).append(categorySlug).append('/');
+        char separator = '?';
+        if (minPrice != null || maxPrice != null) {
+            url.append(separator).append(PRICE_PARAMETER).append('=')
+                    .append(encode(formatRubles(minPrice) + ";" + formatRubles(maxPrice)));
+            separator = '&';
+        }
+        if (!brandIds.isEmpty()) {
+            url.append(separator).append(BRAND_PARAMETER).append('=').append(encode(String.join(",", brandIds)));
+            separator = '&';
+        }
+        for (Map.Entry<String, String> parameter : otherParameters.entrySet()) {
+            url.append(separator).append(encode(parameter.getKey())).append('=').append(encode(parameter.getValue()));
+            separator = '&';
+        }
+        return url.toString();
+    }
+
+    public String getCategorySlug() {
+        return categorySlug;
+    }
+
+    public Long getMinPrice() {
+        return minPrice;
+    }
+
+    public Long getMaxPrice() {
+        return maxPrice;
+    }
+
+    public List<String> getBrandIds() {
+        return brandIds;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof CatalogFilter)) {
+            return false;
+        }
+        CatalogFilter filter = (CatalogFilter) other;
+        return categorySlug.equals(filter.categorySlug)
+                && Objects.equals(minPrice, filter.minPrice)
+                && Objects.equals(maxPrice, filter.maxPrice)
+                && brandIds.equals(filter.brandIds)
+                && otherParameters.equals(filter.otherParameters);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(categorySlug, minPrice, maxPrice, brandIds, otherParameters);
+    }
+
+    @Override
+    public String toString() {
+        return "CatalogFilter{категория=" + categorySlug + ", цены=" + minPrice + ".." + maxPrice
+                + ", бренды=" + brandIds + (otherParameters.isEmpty() ? "" : ", параметры=" + otherParameters) + "}";
+    }
+
+    /**
+     * Разбирает цену фильтра в рублях, округляя копейки в заданную сторону. Пустая строка означает отсутствие границы.
+     */
+    private static Long parseRubles(String value, RoundingMode roundingMode) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value).setScale(0, roundingMode).longValueExact();
+        } catch (ArithmeticException | NumberFormatException e) {
+            throw new IllegalArgumentException("Некорректная цена в фильтре: " + value, e);
+        }
+    }
+
+    /**
+     * Форматирует цену фильтра так же, как ее пишет сайт: с тремя знаками после точки.
+     */
+    private static String formatRubles(Long value) {
+        return value == null ? "" : value + ".000";
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+}
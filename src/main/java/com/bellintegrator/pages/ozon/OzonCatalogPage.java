@@ -1,6 +1,10 @@
 package com.bellintegrator.pages.ozon;
 
+import com.bellintegrator.pages.RequiredWidgets;
 import com.bellintegrator.properties.Properties;
+import com.bellintegrator.readiness.ReadinessEngine;
+import com.bellintegrator.readiness.ReadinessEngines;
+import com.bellintegrator.service.OptimizingElementLocatorFactory;
 import org.junit.jupiter.api.Assertions;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
@@ -11,6 +15,11 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Класс OzonCatalogPage предоставляет методы для взаимодействия с элементами страницы каталога на сайте Ozon.
@@ -20,10 +29,72 @@ import java.util.List;
  * @since 2024-06-21
  * @author Vergentev Tikhon
  */
+@RequiredWidgets({"searchResultsV2", "filtersDesktop"})
 public class OzonCatalogPage {
 
+    /**
+     * Функции скриптов извлечения карточек. Карточкой считается наибольший предок ссылки внутри виджета
+     * searchResultsV2, все ссылки внутри которого ведут на тот же товар.
+     * Если на карточке упомянута карта Ozon, первая незачеркнутая цена считается ценой с картой.
+     * collectCards обходит все виджеты searchResultsV2 страницы, в том числе подгруженные прокруткой,
+     * и пропускает карточки с ключами из seen; keyOf совпадает с {@link CatalogCard#keyOf(String)}.
+     */
+    static final String CARD_FUNCTIONS =
+            "function keyOf(a) { return a.href.split('#')[0].split('?')[0]; }" +
+            "function text(el) { return (el.textContent || '').replace(/\\s+/g, ' ').trim(); }" +
+            "function isPrerender(a) { return (a.getAttribute('data-prerender') || '').indexOf('true') >= 0; }" +
+            "function tileOf(a, key, widget) {" +
+            "  var node = a;" +
+            "  while (node.parentElement && node.parentElement !== widget) {" +
+            "    var links = node.parentElement.querySelectorAll('a[href]');" +
+            "    for (var i = 0; i < links.length; i++) { if (keyOf(links[i]) !== key) { return node; } }" +
+            "    node = node.parentElement;" +
+            "  }" +
+            "  return node;" +
+            "}" +
+            "function cardOf(a, key, widget) {" +
+            "  var tile = tileOf(a, key, widget), title = null, prices = [];" +
+            "  var spans = tile.querySelectorAll('span');" +
+            "  for (var j = 0; j < spans.length; j++) {" +
+            "    var t = text(spans[j]);" +
+            "    if (!t || spans[j].children.length > 0) { continue; }" +
+            "    if (t.indexOf('\u20BD') >= 0) {" +
+            "      var decoration = window.getComputedStyle(spans[j]).textDecorationLine || '';" +
+            "      if (decoration.indexOf('line-through') < 0) { prices.push(t); }" +
+            "    } else if (title === null && spans[j].closest('a[href]')) {" +
+            "      title = t;" +
+            "    }" +
+            "  }" +
+            "  var withCard = /Ozon\\s*Карт|картой\\s*Ozon/i.test(text(tile));" +
+            "  return {title: title, href: a.href," +
+            "    displayedPrice: withCard ? (prices[1] || prices[0] || null) : (prices[0] || null)," +
+            "    cardPrice: withCard ? (prices[0] || null) : null};" +
+            "}" +
+            "function collectCards(seen) {" +
+            "  var cards = [];" +
+            "  var widgets = document.querySelectorAll(\"[data-widget='searchResultsV2']\");" +
+            "  for (var w = 0; w < widgets.length; w++) {" +
+            "    var anchors = widgets[w].querySelectorAll('a[href]');" +
+            "    for (var i = 0; i < anchors.length; i++) {" +
+            "      var a = anchors[i];" +
+            "      if (isPrerender(a)) { continue; }" +
+            "      var key = keyOf(a);" +
+            "      if (seen[key]) { continue; }" +
+            "      seen[key] = true;" +
+            "      cards.push(cardOf(a, key, widgets[w]));" +
+            "    }" +
+            "  }" +
+            "  return cards;" +
+            "}";
+
+    /**
+     * Скрипт, извлекающий данные всех карточек виджетов searchResultsV2 за один вызов.
+     */
+    private static final String EXTRACT_CARDS_SCRIPT = CARD_FUNCTIONS + "return collectCards({});";
+
     private final WebDriver webDriver;
     private final WebDriverWait wait;
+    private final ReadinessEngine readiness;
 
     /**
      * Поле для ввода минимальной цены.
@@ -84,7 +155,8 @@ public class OzonCatalogPage {
     public OzonCatalogPage(WebDriver webDriver) {
         this.webDriver = webDriver;
         this.wait = new WebDriverWait(webDriver, Properties.testsProperties.webDriverWait());
-        PageFactory.initElements(webDriver, this);
+        this.readiness = ReadinessEngines.create(webDriver, wait);
+        PageFactory.initElements(new OptimizingElementLocatorFactory(webDriver), this);
     }
 
     /**
@@ -134,19 +206,19 @@ public class OzonCatalogPage {
 
     /**
      * Устанавливает минимальную цену в фильтре и ожидает завершения обновления страницы.
+     * Готовность страницы определяет движок, заданный свойством readiness.engine.
      *
      * @param price минимальная цена для установки.
      */
     public void setMinPrice(String price) {
         WebElement minPrice = wait.until(ExpectedConditions.elementToBeClickable(minPriceInput));
         Actions actions = new Actions(webDriver);
-        actions.click(minPrice)
+        readiness.perform(() -> actions.click(minPrice)
                 .keyDown(Keys.CONTROL).sendKeys("a").keyUp(Keys.CONTROL)
                 .sendKeys(Keys.BACK_SPACE)
                 .sendKeys(price)
                 .sendKeys(Keys.ENTER)
-                .perform();
-        waitForLoadingIndicator();
+                .perform());
     }
 
     /**
@@ -157,13 +229,12 @@ public class OzonCatalogPage {
     public void setMaxPrice(String price) {
         WebElement maxPrice = wait.until(ExpectedConditions.elementToBeClickable(maxPriceInput));
         Actions actions = new Actions(webDriver);
-        actions.click(maxPrice)
+        readiness.perform(() -> actions.click(maxPrice)
                 .keyDown(Keys.CONTROL).sendKeys("a").keyUp(Keys.CONTROL)
                 .sendKeys(Keys.BACK_SPACE)
                 .sendKeys(price)
                 .sendKeys(Keys.ENTER)
-                .perform();
-        waitForLoadingIndicator();
+                .perform());
     }
 
     /**
@@ -174,8 +245,7 @@ public class OzonCatalogPage {
     public void selectBrand(String name) {
         for (WebElement brandName : brandNames) {
             if (brandName.getText().equalsIgnoreCase(name)) {
-                wait.until(ExpectedConditions.elementToBeClickable(brandName)).click();
-                waitForLoadingIndicator();
+                readiness.perform(() -> wait.until(ExpectedConditions.elementToBeClickable(brandName)).click());
                 return;
             }
         }
@@ -183,13 +253,75 @@ public class OzonCatalogPage {
     }
 
     /**
-     * Ожидает, пока индикатор загрузки исчезнет, что означает завершение обновления страницы.
+     * Извлекает данные всех карточек найденных товаров одним вызовом JavaScript,
+     * ожидая появления результатов поиска.
+     *
+     * @return список карточек в порядке выдачи.
+     */
+    public List<CatalogCard> extractCards() {
+        List<?> rawCards = wait.until(driver -> {
+            Object result = ((JavascriptExecutor) driver).executeScript(EXTRACT_CARDS_SCRIPT);
+            return result instanceof List && !((List<?>) result).isEmpty() ? (List<?>) result : null;
+        });
+        return toCards(rawCards);
+    }
+
+    /**
+     * Извлекает данные карточек уже отрисованной страницы одним вызовом JavaScript, не ожидая их появления.
+     *
+     * @return список карточек в порядке выдачи; пустой, если на странице нет результатов.
+     */
+    List<CatalogCard> extractRenderedCards() {
+        Object result = ((JavascriptExecutor) webDriver).executeScript(EXTRACT_CARDS_SCRIPT);
+        return result instanceof List ? toCards((List<?>) result) : new ArrayList<>();
+    }
+
+    /**
+     * Возвращает ленивый поток карточек всех страниц выдачи, начиная с открытой.
+     * Следующая страница открывается, только когда потребитель дочитал текущую,
+     * поэтому limit и короткозамыкающие операции не загружают лишних страниц.
+     * Поток нужно закрыть: при закрытии браузер возвращается на исходную страницу каталога.
+     *
+     * @param maxPages максимальное количество страниц; 0 и меньше - все страницы выдачи.
+     * @return поток карточек в порядке выдачи.
+     */
+    public Stream<CatalogCard> streamCards(int maxPages) {
+        CatalogCardIterator iterator = new CatalogCardIterator(this, webDriver, maxPages);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close);
+    }
+
+    /**
+     * Разбирает фильтр выдачи из адреса открытой страницы каталога.
+     * Фильтры, примененные через панель фильтров, сайт записывает в адрес, поэтому результат
+     * можно сохранить и позже открыть ту же выдачу одним переходом через {@link CatalogFilter#toUrl(String)}.
+     *
+     * @return фильтр открытой выдачи.
      */
-    private void waitForLoadingIndicator() {
-        By loadingIndicatorBy =
-                By.xpath("//div[contains(@class, '')][following-sibling::div[@id='paginatorContent']]");
-        WebElement loadingElement = wait.until(ExpectedConditions.presenceOfElementLocated(loadingIndicatorBy));
-        wait.until(ExpectedConditions.stalenessOf(loadingElement));
+    public CatalogFilter getFilter() {
+        return CatalogFilter.parse(webDriver.getCurrentUrl());
+    }
+
+    private static List<CatalogCard> toCards(List<?> rawCards) {
+        List<CatalogCard> cards = new ArrayList<>(rawCards.size());
+        for (Object rawCard : rawCards) {
+            cards.add(CatalogCard.fromScriptResult((Map<?, ?>) rawCard));
+        }
+        return cards;
+    }
+
+    /**
+     * Возвращает список имен найденных товаров, извлекая их одним вызовом JavaScript.
+     *
+     * @return список имен найденных товаров.
+     */
+    public List<String> getFoundNameItems() {
+        List<String> foundNameItems = new ArrayList<>();
+        for (CatalogCard card : extractCards()) {
+            foundNameItems.add(card.getTitle());
+        }
+        return foundNameItems;
     }
 
     /**
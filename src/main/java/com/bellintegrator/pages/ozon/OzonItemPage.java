@@ -1,6 +1,9 @@
 package com.bellintegrator.pages.ozon;
 
+import com.bellintegrator.pages.RequiredWidgets;
 import com.bellintegrator.properties.Properties;
+import com.bellintegrator.readiness.FirstOfWait;
+import com.bellintegrator.service.OptimizingElementLocatorFactory;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -18,23 +21,46 @@ import org.openqa.selenium.support.ui.WebDriverWait;
  * @since 2024-06-21
  * @author Vergentev Tikhon
  */
+@RequiredWidgets("webPrice|webOutOfStock")
 public class OzonItemPage {
 
+    private static final String PRICE_WITH_OZON_CARD_XPATH = "//div[@data-widget='webPrice']//button[@type='button']" +
+            "//span[contains(text(), '₽')]";
+    private static final String PRICE_XPATH = "//div[@data-widget='webPrice']" +
+            "//span[contains(text(), '₽')][following-sibling::span]";
+    private static final String OUT_OF_STOCK_XPATH = "//div[@data-widget='webOutOfStock']";
+
     private final WebDriver webDriver;
     private final WebDriverWait wait;
 
+    /**
+     * Вид цены, найденной на странице товара.
+     */
+    public enum PriceKind {
+        /**
+         * Цена с картой Ozon.
+         */
+        CARD_PRICE,
+        /**
+         * Обычная цена.
+         */
+        REGULAR_PRICE,
+        /**
+         * Цены нет, товар отсутствует в продаже.
+         */
+        OUT_OF_STOCK
+    }
+
     /**
      * Элемент, представляющий цену с картой Ozon.
      */
-    @FindBy(how = How.XPATH, using = "//div[@data-widget='webPrice']//button[@type='button']" +
-            "//span[contains(text(), '₽')]")
+    @FindBy(how = How.XPATH, using = PRICE_WITH_OZON_CARD_XPATH)
     private WebElement priceWithOzonCard;
 
     /**
      * Элемент, представляющий обычную цену.
      */
-    @FindBy(how = How.XPATH, using = "//div[@data-widget='webPrice']" +
-            "//span[contains(text(), '₽')][following-sibling::span]")
+    @FindBy(how = How.XPATH, using = PRICE_XPATH)
     private WebElement price;
 
     /**
@@ -51,7 +77,7 @@ public class OzonItemPage {
     public OzonItemPage(WebDriver webDriver) {
         this.webDriver = webDriver;
         this.wait = new WebDriverWait(webDriver, Properties.testsProperties.webDriverWait());
-        PageFactory.initElements(webDriver, this);
+        PageFactory.initElements(new OptimizingElementLocatorFactory(webDriver), this);
     }
 
     /**
@@ -68,6 +94,21 @@ public class OzonItemPage {
         }
     }
 
+    /**
+     * Ожидает первый из вариантов цены: цену с картой Ozon, обычную цену или отметку об отсутствии товара.
+     * Ожидание не зависит от неявного ожидания WebDriver, поэтому ветка цены выбирается сразу после
+     * появления одного из вариантов. Если варианты появились одновременно, предпочитается цена с картой Ozon.
+     *
+     * @return вид найденной цены и ее элемент (для OUT_OF_STOCK — элемент отметки об отсутствии).
+     */
+    public FirstOfWait.Match<PriceKind> resolvePrice() {
+        return new FirstOfWait<PriceKind>(webDriver, Properties.testsProperties.webDriverWait() * 1000L)
+                .or(PriceKind.CARD_PRICE, PRICE_WITH_OZON_CARD_XPATH)
+                .or(PriceKind.REGULAR_PRICE, PRICE_XPATH)
+                .or(PriceKind.OUT_OF_STOCK, OUT_OF_STOCK_XPATH)
+                .await();
+    }
+
     /**
      * Возвращает элемент, представляющий цену с картой Ozon, ожидая его видимости.
      *
@@ -1,6 +1,8 @@
 package com.bellintegrator.pages.ozon;
 
+import com.bellintegrator.pages.RequiredWidgets;
 import com.bellintegrator.properties.Properties;
+import com.bellintegrator.service.OptimizingElementLocatorFactory;
 import com.bellintegrator.service.WebElementsSearcher;
 import com.bellintegrator.service.XPathConstructor;
 import com.bellintegrator.service.BannerCloser;
@@ -20,8 +22,11 @@ import org.openqa.selenium.support.ui.WebDriverWait;
  * @since 2024-06-21
  * @author Vergentev Tikhon
  */
+@RequiredWidgets(value = "catalogMenu", interstitial = OzonStartPage.REFRESH_BUTTON_XPATH)
 public class OzonStartPage {
 
+    static final String REFRESH_BUTTON_XPATH = "//button[contains(text(), 'Обновить')]";
+
     private final WebDriver webDriver;
     private final WebDriverWait wait;
 
@@ -34,7 +39,7 @@ public class OzonStartPage {
     /**
      * Кнопка для обновления страницы.
      */
-    @FindBy(how = How.XPATH, using = "//button[contains(text(), 'Обновить')]")
+    @FindBy(how = How.XPATH, using = REFRESH_BUTTON_XPATH)
     private WebElement refreshButton;
 
     /**
@@ -45,7 +50,7 @@ public class OzonStartPage {
     public OzonStartPage(WebDriver webDriver) {
         this.webDriver = webDriver;
         this.wait = new WebDriverWait(webDriver, Properties.testsProperties.webDriverWait());
-        PageFactory.initElements(webDriver, this);
+        PageFactory.initElements(new OptimizingElementLocatorFactory(webDriver), this);
     }
 
     /**
@@ -93,6 +98,49 @@ public class OzonStartPage {
      *
      */
     public void closeCookie(String coockieNameButton) {
+        BannerCloser.closeCookieWarning(wait, cookieXPath(coockieNameButton));
+    }
+
+    /**
+     * Проверяет, показано ли предупреждение о cookies, не ожидая его появления.
+     *
+     * @param coockieNameButton текст кнопки закрытия предупреждения.
+     * @return true, если кнопка закрытия есть на странице.
+     */
+    public boolean isCookieWarningPresent(String coockieNameButton) {
+        return WebElementsSearcher.isPresent(webDriver, cookieXPath(coockieNameButton));
+    }
+
+    /**
+     * Закрываем предложение о смене локации.
+     *
+     */
+    public void skipLocationAccept() {
+        BannerCloser.closeLocationWarning(wait, locationXPath());
+    }
+
+    /**
+     * Проверяет, показано ли предложение о смене локации, не ожидая его появления.
+     *
+     * @return true, если кнопка предложения есть на странице.
+     */
+    public boolean isLocationWarningPresent() {
+        return WebElementsSearcher.isPresent(webDriver, locationXPath());
+    }
+
+    /**
+     * Проверяет, показана ли кнопка обновления страницы, не ожидая ее появления.
+     *
+     * @return true, если кнопка есть на странице.
+     */
+    public boolean isRefreshButtonPresent() {
+        return WebElementsSearcher.isPresent(webDriver, REFRESH_BUTTON_XPATH);
+    }
+
+    /**
+     * Формирует XPath кнопки закрытия предупреждения о cookies.
+     */
+    private static String cookieXPath(String coockieNameButton) {
         String coockieXPath1 = XPathConstructor
                 .constructXPath("//", "div", "contains", "@data-widget", ",", "ookie", "");
         String coockieXPath2 = XPathConstructor
@@ -101,20 +149,17 @@ public class OzonStartPage {
                 .constructXPath("", "div", "", "text()", "=", coockieNameButton, "");
         String conditionForXPath2 = XPathConstructor
                 .constructConditionForXPath("descendant", coockieXPath3);
-        String cockieFullXpath = coockieXPath1 + coockieXPath2 + conditionForXPath2;
-        BannerCloser.closeCookieWarning(wait, cockieFullXpath);
+        return coockieXPath1 + coockieXPath2 + conditionForXPath2;
     }
 
     /**
-     * Закрываем предложение о смене локации.
-     *
+     * Формирует XPath кнопки предложения о смене локации.
      */
-    public void skipLocationAccept() {
+    private static String locationXPath() {
         String xpath1 = XPathConstructor
                 .constructXPath("//", "div", "", "@class", "=","vue-portal-target", "");
         String xpath2 = XPathConstructor
                 .constructXPath("//", "button", "", "@type", "=","button", "");
-        String fullXPath = xpath1 + xpath2;
-        BannerCloser.closeLocationWarning(wait, fullXPath);
+        return xpath1 + xpath2;
     }
 }
@@ -0,0 +1,121 @@
+package com.bellintegrator.pages.ozon;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Класс ScrollLoader подгружает выдачу каталога Ozon бесконечной прокруткой.
+ * Каждый цикл - один асинхронный вызов JavaScript: если на странице есть еще не выданные карточки,
+ * они возвращаются сразу, иначе страница прокручивается до конца и скрипт ждет появления новых карточек
+ * в виджетах searchResultsV2, которые подгружаются в paginatorContent.
+ * Выданные ссылки хранятся и на странице, и в Java: страница возвращает только новые карточки,
+ * поэтому цикл не пересканирует уже загруженную выдачу. Если за время ожидания новых карточек не появилось,
+ * выдача считается закончившейся.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ScrollLoader {
+
+    /**
+     * Асинхронный скрипт одного цикла загрузки. Аргументы: время ожидания новых карточек в миллисекундах
+     * и признак сброса выданных ссылок. Возвращает объект с новыми карточками и признаком конца выдачи.
+     */
+    private static final String LOAD_SCRIPT = OzonCatalogPage.CARD_FUNCTIONS +
+            "var waitMillis = arguments[0], done = arguments[arguments.length - 1];" +
+            "if (arguments[1] || !window.__ozonSeenCards) { window.__ozonSeenCards = {}; }" +
+            "var seen = window.__ozonSeenCards;" +
+            "function collect() { return collectCards(seen); }" +
+            "var cards = collect();" +
+            "if (cards.length > 0) { done({cards: cards, end: false}); return; }" +
+            "window.scrollTo(0, document.documentElement.scrollHeight);" +
+            "var started = Date.now();" +
+            "var timer = setInterval(function () {" +
+            "  var loaded = collect();" +
+            "  if (loaded.length > 0 || Date.now() - started >= waitMillis) {" +
+            "    clearInterval(timer);" +
+            "    done({cards: loaded, end: loaded.length === 0});" +
+            "  } else {" +
+            "    window.scrollTo(0, document.documentElement.scrollHeight);" +
+            "  }" +
+            "}, 100);";
+
+    private final WebDriver webDriver;
+    private final long waitMillis;
+    private final Set<String> seenKeys = new HashSet<>();
+    private boolean reset = true;
+    private boolean ended;
+
+    /**
+     * Конструктор класса ScrollLoader. Новый загрузчик выдает карточки, начиная с уже отрисованных.
+     *
+     * @param webDriver  сессия, в которой открыта страница каталога.
+     * @param waitMillis время ожидания новых карточек после прокрутки, в миллисекундах;
+     *                   должно быть меньше таймаута скриптов WebDriver.
+     */
+    public ScrollLoader(WebDriver webDriver, long waitMillis) {
+        this.webDriver = webDriver;
+        this.waitMillis = waitMillis;
+    }
+
+    /**
+     * Выполняет один цикл загрузки.
+     *
+     * @return карточки, которые еще не выдавались; пустой список, если выдача закончилась.
+     */
+    public List<CatalogCard> loadMore() {
+        if (ended) {
+            return new ArrayList<>();
+        }
+        Map<?, ?> result = (Map<?, ?>) ((JavascriptExecutor) webDriver)
+                .executeAsyncScript(LOAD_SCRIPT, waitMillis, reset);
+        reset = false;
+        List<CatalogCard> cards = new ArrayList<>();
+        for (Object rawCard : (List<?>) result.get("cards")) {
+            CatalogCard card = CatalogCard.fromScriptResult((Map<?, ?>) rawCard);
+            if (seenKeys.add(card.getKey())) {
+                cards.add(card);
+            }
+        }
+        ended = Boolean.TRUE.equals(result.get("end"));
+        return cards;
+    }
+
+    /**
+     * Прокручивает выдачу, пока не будет загружено заданное количество карточек,
+     * не закончится выдача или не будет исчерпано количество циклов.
+     *
+     * @param target    требуемое количество карточек.
+     * @param maxCycles максимальное количество циклов загрузки.
+     * @return количество загруженных карточек.
+     */
+    public int loadUntil(int target, int maxCycles) {
+        for (int cycle = 0; cycle < maxCycles && seenKeys.size() < target && !ended; cycle++) {
+            loadMore();
+        }
+        return seenKeys.size();
+    }
+
+    /**
+     * Возвращает количество карточек, выданных загрузчиком.
+     *
+     * @return количество карточек.
+     */
+    public int getLoadedCount() {
+        return seenKeys.size();
+    }
+
+    /**
+     * Проверяет, закончилась ли выдача.
+     *
+     * @return true, если после последней прокрутки новых карточек не появилось.
+     */
+    public boolean isEnded() {
+        return ended;
+    }
+}
@@ -15,6 +15,10 @@ public class Properties {
     /**
      * Экземпляр интерфейса TestsProperties, содержащий свойства для тестов.
      * Создается с использованием фабрики конфигураций OWNER.
+     * OWNER 1.0.4 не поддерживает источники system:properties и system:env,
+     * поэтому системные свойства и переменные окружения передаются явно;
+     * они используются для ключей, которых нет в файле свойств.
      */
-    public static TestsProperties testsProperties = ConfigFactory.create(TestsProperties.class);
+    public static TestsProperties testsProperties =
+            ConfigFactory.create(TestsProperties.class, System.getProperties(), System.getenv());
 }
@@ -39,6 +39,72 @@ public interface TestsProperties extends Config {
     @Config.Key("webdriver.timeouts.pageloadtimeout")
     int pageLoadTimeout();
 
+    /**
+     * Стратегия загрузки страниц: normal, eager или none.
+     * При eager и none готовность страниц определяется по виджетам из аннотации RequiredWidgets.
+     * @return строка, содержащая имя стратегии.
+     */
+    @Config.Key("webdriver.page.load.strategy")
+    String pageLoadStrategy();
+
+    /**
+     * Включает сохранение и восстановление снимка состояния сессии. Снимок содержит все cookies сайта,
+     * включая httpOnly cookies авторизации, и хранится в файле открытым текстом, поэтому по умолчанию выключен.
+     * Задается системным свойством -Dsession.snapshot.enabled=true и в файле свойств не указывается,
+     * так как значение из файла имеет приоритет над системными свойствами.
+     * @return true, если новые сессии начинаются с сохраненными cookies и storage.
+     */
+    @Config.Key("session.snapshot.enabled")
+    @Config.DefaultValue("false")
+    boolean sessionSnapshotEnabled();
+
+    /**
+     * Файл снимка состояния сессии.
+     * @return строка, содержащая путь к файлу относительно рабочего каталога.
+     */
+    @Config.Key("session.snapshot.file")
+    String sessionSnapshotFile();
+
+    /**
+     * Срок годности снимка состояния сессии в минутах.
+     * @return целое число, представляющее срок годности.
+     */
+    @Config.Key("session.snapshot.ttl.minutes")
+    long sessionSnapshotTtlMinutes();
+
+    /**
+     * Включает контрольные точки пути теста для продолжения повторов с последнего пройденного этапа.
+     * Повторы упавших тестов включаются системным свойством -Dsurefire.rerunFailingTestsCount=1.
+     * @return true, если повтор упавшего теста начинается с контрольной точки.
+     */
+    @Config.Key("checkpoint.enabled")
+    boolean checkpointEnabled();
+
+    /**
+     * Продолжает тест с контрольной точки и в новом запуске, а не только при повторе surefire в той же JVM.
+     * Точки упавших тестов тогда сохраняются в файлы checkpoint.directory. Задается системным свойством
+     * -Dcheckpoint.resume.across.runs=true и в файле свойств не указывается, так как значение из файла
+     * имеет приоритет над системными свойствами.
+     * @return true, если точки сохраняются между запусками.
+     */
+    @Config.Key("checkpoint.resume.across.runs")
+    @Config.DefaultValue("false")
+    boolean checkpointResumeAcrossRuns();
+
+    /**
+     * Каталог файлов контрольных точек упавших тестов для продолжения в новом запуске.
+     * @return строка, содержащая путь к каталогу относительно рабочего каталога.
+     */
+    @Config.Key("checkpoint.directory")
+    String checkpointDirectory();
+
+    /**
+     * Срок годности контрольной точки в минутах.
+     * @return целое число, представляющее срок годности.
+     */
+    @Config.Key("checkpoint.ttl.minutes")
+    long checkpointTtlMinutes();
+
     /**
      * Время ожидания выполнения скрипта для WebDriver в секундах.
      * @return целое число, представляющее время ожидания выполнения скрипта.
@@ -53,6 +119,295 @@ public interface TestsProperties extends Config {
     @Config.Key("webdriver.wait")
     int webDriverWait();
 
+    /**
+     * Размер пула сессий WebDriver. Значение 0 означает количество доступных процессоров.
+     * Для параллельной проверки товаров пул должен вмещать сессии всех одновременно идущих тестов
+     * и по verify.items.parallelism - 1 дополнительных сессий на тест.
+     * @return целое число, представляющее максимальное количество одновременно открытых браузеров.
+     */
+    @Config.Key("webdriver.pool.size")
+    int poolSize();
+
+    /**
+     * Профиль запуска Chrome: full, headless или lean.
+     * @return строка, содержащая имя профиля.
+     */
+    @Config.Key("webdriver.profile")
+    String launchProfile();
+
+    /**
+     * Размер области просмотра для профилей headless и lean.
+     * @return строка вида ширина,высота.
+     */
+    @Config.Key("webdriver.profile.window.size")
+    String windowSize();
+
+    /**
+     * Хосты аналитики и рекламы, блокируемые профилем lean. Поддерживаются маски вида *.example.com.
+     * @return массив имен хостов.
+     */
+    @Config.Key("webdriver.profile.blocked.hosts")
+    String[] blockedHosts();
+
+    /**
+     * Включает трассировку команд WebDriver по шагам Allure для разбора медленных прогонов.
+     * По умолчанию выключена, чтобы не менять отчеты. Задается системным свойством -Dwebdriver.trace=true
+     * и в файле свойств не указывается, так как значение из файла имеет приоритет над системными свойствами.
+     * @return true, если сессии создаются с трассировкой команд.
+     */
+    @Config.Key("webdriver.trace")
+    @Config.DefaultValue("false")
+    boolean trace();
+
+    /**
+     * Минимальный размер списка элементов, начиная с которого повторяющиеся команды считаются N+1.
+     * @return целое число, представляющее минимальный размер списка.
+     */
+    @Config.Key("webdriver.trace.n-plus-one.min.size")
+    int traceNPlusOneMinSize();
+
+    /**
+     * Движок ожидания готовности страницы после изменения фильтров: mutation или staleness.
+     * @return строка, содержащая название движка.
+     */
+    @Config.Key("readiness.engine")
+    String readinessEngine();
+
+    /**
+     * Время без изменений результатов поиска, после которого страница считается готовой, в миллисекундах.
+     * @return целое число, представляющее время затишья.
+     */
+    @Config.Key("readiness.quiet.millis")
+    long readinessQuietMillis();
+
+    /**
+     * Количество сессий, одновременно проверяющих найденные товары.
+     * @return целое число, значение 1 означает последовательную проверку в текущей вкладке.
+     */
+    @Config.Key("verify.items.parallelism")
+    int verifyItemsParallelism();
+
+    /**
+     * Режим проверки найденных товаров: full (открывается каждая страница товара)
+     * или tiles (проверка по карточкам выдачи с выборочной глубокой проверкой).
+     * По умолчанию full; tiles ослабляет проверку и включается явно.
+     * @return строка, содержащая режим проверки.
+     */
+    @Config.Key("verify.items.mode")
+    String verifyItemsMode();
+
+    /**
+     * Количество страниц выдачи, товары которых проверяются; 0 означает всю категорию.
+     * @return целое число, представляющее количество страниц.
+     */
+    @Config.Key("verify.items.pages")
+    int verifyItemsPages();
+
+    /**
+     * Способ загрузки страниц товаров: browser - во вкладках браузера, http - по HTTP с cookies сессии
+     * и в браузере только для страниц, которые требуют отрисовки на клиенте.
+     * @return строка, содержащая способ загрузки.
+     */
+    @Config.Key("verify.items.fetch")
+    String verifyItemsFetch();
+
+    /**
+     * Таймаут загрузки страницы товара по HTTP в секундах.
+     * @return целое число, представляющее таймаут.
+     */
+    @Config.Key("verify.items.fetch.timeout")
+    long verifyItemsFetchTimeout();
+
+    /**
+     * Максимальное количество одновременных запросов страниц товаров по HTTP.
+     * @return целое число, представляющее количество запросов.
+     */
+    @Config.Key("verify.items.fetch.concurrency")
+    int verifyItemsFetchConcurrency();
+
+    /**
+     * Максимальное количество страниц товаров в кэше данных о товарах; 0 отключает кэш.
+     * @return целое число, представляющее размер кэша.
+     */
+    @Config.Key("verify.items.cache.size")
+    int verifyItemsCacheSize();
+
+    /**
+     * Время, в течение которого данные о товаре из кэша считаются актуальными, в минутах.
+     * @return целое число, представляющее время жизни записи.
+     */
+    @Config.Key("verify.items.cache.ttl.minutes")
+    long verifyItemsCacheTtlMinutes();
+
+    /**
+     * Файл для сохранения кэша данных о товарах между запусками; пустое значение - кэш только в памяти.
+     * @return строка, содержащая путь к файлу относительно рабочего каталога.
+     */
+    @Config.Key("verify.items.cache.file")
+    String verifyItemsCacheFile();
+
+    /**
+     * Время ожидания новых карточек после прокрутки выдачи в миллисекундах; должно быть меньше таймаута скриптов.
+     * @return целое число, представляющее время ожидания.
+     */
+    @Config.Key("catalog.scroll.wait.millis")
+    long catalogScrollWaitMillis();
+
+    /**
+     * Максимальное количество циклов прокрутки выдачи.
+     * @return целое число, представляющее количество циклов.
+     */
+    @Config.Key("catalog.scroll.max.cycles")
+    int catalogScrollMaxCycles();
+
+    /**
+     * Доверительная вероятность обнаружения ошибочных карточек в режиме tiles.
+     * @return число от 0 до 1.
+     */
+    @Config.Key("verify.items.sample.confidence")
+    double verifyItemsSampleConfidence();
+
+    /**
+     * Минимальная доля ошибочных карточек, которую должна обнаружить выборка в режиме tiles.
+     * @return число от 0 до 1.
+     */
+    @Config.Key("verify.items.sample.defect.rate")
+    double verifyItemsSampleDefectRate();
+
+    /**
+     * Начальное значение генератора случайной выборки в режиме tiles.
+     * @return целое число, одинаковое значение дает одинаковую выборку.
+     */
+    @Config.Key("verify.items.sample.seed")
+    long verifyItemsSampleSeed();
+
+    /**
+     * Доля от границы диапазона цен, в пределах которой карточка всегда проверяется глубоко.
+     * @return число от 0 до 1.
+     */
+    @Config.Key("verify.items.boundary.margin")
+    double verifyItemsBoundaryMargin();
+
+    /**
+     * Политика создания скриншотов: always, on_failure, every_nth или on_change.
+     * @return строка, содержащая название политики.
+     */
+    @Config.Key("screenshots.policy")
+    String screenshotsPolicy();
+
+    /**
+     * Период для политики every_nth: скриншот делается после каждого N-го шага.
+     * @return целое число, представляющее период.
+     */
+    @Config.Key("screenshots.every.nth")
+    int screenshotsEveryNth();
+
+    /**
+     * Порог для политики on_change: минимальное количество различающихся битов перцептивного хеша.
+     * @return целое число от 0 до 64.
+     */
+    @Config.Key("screenshots.change.threshold")
+    int screenshotsChangeThreshold();
+
+    /**
+     * Формат вложений со скриншотами: png (без изменений) или jpeg (со сжатием).
+     * @return строка, содержащая формат вложений.
+     */
+    @Config.Key("screenshots.format")
+    String screenshotsFormat();
+
+    /**
+     * Качество сжатия скриншотов в формате jpeg.
+     * @return число от 0 до 1.
+     */
+    @Config.Key("screenshots.jpeg.quality")
+    float screenshotsJpegQuality();
+
+    /**
+     * Количество фоновых потоков, записывающих скриншоты.
+     * @return целое число, представляющее количество потоков.
+     */
+    @Config.Key("screenshots.pipeline.threads")
+    int screenshotsPipelineThreads();
+
+    /**
+     * Размер очереди скриншотов, ожидающих записи.
+     * @return целое число, представляющее максимальное количество скриншотов в очереди.
+     */
+    @Config.Key("screenshots.pipeline.queue.size")
+    int screenshotsPipelineQueueSize();
+
+    /**
+     * Каталог, в который по завершении прогона выгружаются метрики длительности шагов.
+     * @return строка, содержащая путь к каталогу относительно рабочего каталога.
+     */
+    @Config.Key("metrics.steps.directory")
+    String metricsStepsDirectory();
+
+    /**
+     * Режим сети браузера: off - прямой доступ, record - запись ответов в хранилище,
+     * replay - воспроизведение ответов из хранилища без обращения к сети.
+     * @return строка, содержащая имя режима.
+     */
+    @Config.Key("proxy.mode")
+    String proxyMode();
+
+    /**
+     * Файл хранилища ответов в формате HAR. Файлы с расширением .gz сжимаются.
+     * Файл создается прогоном в режиме record и должен существовать перед прогоном в режиме replay.
+     * @return строка, содержащая путь к файлу относительно рабочего каталога.
+     */
+    @Config.Key("proxy.har.file")
+    String proxyHarFile();
+
+    /**
+     * Задержка, добавляемая к каждому ответу в режиме replay, в миллисекундах.
+     * @return целое число, представляющее задержку.
+     */
+    @Config.Key("proxy.replay.latency.millis")
+    long proxyReplayLatencyMillis();
+
+    /**
+     * Файл с данными теста фильтрации каталога в формате CSV или JSONL.
+     * @return строка, содержащая путь к файлу относительно рабочего каталога.
+     */
+    @Config.Key("data.test.four.file")
+    String dataTestFourFile();
+
+    /**
+     * Часть тестовых данных для текущего запуска в виде "номер/всего", например 3/16.
+     * Пустое значение означает все данные. Задается системным свойством -Dshard и в файле свойств
+     * не указывается, так как значение из файла имеет приоритет над системными свойствами.
+     * @return строка, содержащая часть данных.
+     */
+    @Config.Key("shard")
+    @Config.DefaultValue("")
+    String shard();
+
+    /**
+     * Идентификатор запуска для общей очереди тестовых случаев, одинаковый у всех участников запуска.
+     * Пустое значение отключает очередь. Задается системным свойством -Dwork.queue.run.id.
+     * @return строка, содержащая идентификатор запуска.
+     */
+    @Config.Key("work.queue.run.id")
+    @Config.DefaultValue("")
+    String workQueueRunId();
+
+    /**
+     * Каталог заявок общей очереди; для нескольких машин должен быть общим.
+     * @return строка, содержащая путь к каталогу относительно рабочего каталога.
+     */
+    @Config.Key("work.queue.directory")
+    String workQueueDirectory();
+
+    /**
+     * Время, после которого незавершенную заявку на случай может забрать другой участник, в минутах.
+     * Должно превышать время выполнения самого долгого случая.
+     * @return целое число, представляющее время жизни заявки.
+     */
+    @Config.Key("work.queue.claim.ttl.minutes")
+    long workQueueClaimTtlMinutes();
+
     /**
      * URL для тестирования на сайте Ozon.
      * @return строка, содержащая URL Ozon.
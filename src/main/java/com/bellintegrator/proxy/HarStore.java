@@ -0,0 +1,138 @@
+package com.bellintegrator.proxy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.lightbody.bmp.core.har.Har;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Хранилище записанных ответов в формате HAR.
+ * Ответы ищутся по методу и полному URL, а если такой URL не записывался - по методу и URL без параметров.
+ * Повторные запросы одного URL получают записанные ответы по порядку, после последнего повторяется последний,
+ * поэтому воспроизведение детерминировано.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class HarStore {
+
+    private final Map<String, List<RecordedResponse>> responsesByUrl = new HashMap<>();
+    private final Map<String, List<RecordedResponse>> responsesByPath = new HashMap<>();
+    private final Map<String, AtomicInteger> cursors = new ConcurrentHashMap<>();
+
+    /**
+     * Конструктор класса HarStore. Запросы, не получившие ответа, в хранилище не попадают.
+     *
+     * @param har корневой узел документа HAR.
+     */
+    public HarStore(JsonNode har) {
+        for (JsonNode entry : har.path("log").path("entries")) {
+            JsonNode response = entry.path("response");
+            int status = response.path("status").asInt();
+            if (status <= 0) {
+                continue;
+            }
+            String method = entry.path("request").path("method").asText();
+            String url = entry.path("request").path("url").asText();
+            RecordedResponse recorded = new RecordedResponse(status, headersOf(response), bodyOf(response.path("content")));
+            responsesByUrl.computeIfAbsent(method + " " + url, key -> new ArrayList<>()).add(recorded);
+            responsesByPath.computeIfAbsent(method + " " + withoutQuery(url), key -> new ArrayList<>()).add(recorded);
+        }
+    }
+
+    /**
+     * Возвращает следующий записанный ответ на запрос.
+     *
+     * @param method метод запроса.
+     * @param url    полный URL запроса.
+     * @return записанный ответ или null, если такой запрос не записывался.
+     */
+    public RecordedResponse next(String method, String url) {
+        String key = method + " " + url;
+        List<RecordedResponse> responses = responsesByUrl.get(key);
+        if (responses == null) {
+            key = method + " " + withoutQuery(url);
+            responses = responsesByPath.get(key);
+        }
+        if (responses == null) {
+            return null;
+        }
+        int position = cursors.computeIfAbsent(key, k -> new AtomicInteger()).getAndIncrement();
+        return responses.get(Math.min(position, responses.size() - 1));
+    }
+
+    /**
+     * Читает HAR из файла, распаковывая файлы с расширением .gz.
+     *
+     * @param file файл HAR.
+     * @return корневой узел документа HAR.
+     * @throws IOException если файл не удалось прочитать.
+     */
+    public static JsonNode read(Path file) throws IOException {
+        try (InputStream input = isCompressed(file)
+                ? new GZIPInputStream(Files.newInputStream(file)) : Files.newInputStream(file)) {
+            return new ObjectMapper().readTree(input);
+        }
+    }
+
+    /**
+     * Записывает HAR в файл, сжимая файлы с расширением .gz.
+     *
+     * @param har  HAR для записи.
+     * @param file файл HAR.
+     * @throws IOException если файл не удалось записать.
+     */
+    public static void write(Har har, Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (OutputStream output = isCompressed(file)
+                ? new GZIPOutputStream(Files.newOutputStream(file)) : Files.newOutputStream(file)) {
+            har.writeTo(output);
+        }
+    }
+
+    private static List<Map.Entry<String, String>> headersOf(JsonNode response) {
+        List<Map.Entry<String, String>> headers = new ArrayList<>();
+        for (JsonNode header : response.path("headers")) {
+            headers.add(new AbstractMap.SimpleImmutableEntry<>(
+                    header.path("name").asText(), header.path("value").asText()));
+        }
+        return headers;
+    }
+
+    /**
+     * Восстанавливает тело ответа. Бинарное содержимое хранится в HAR в base64.
+     */
+    private static byte[] bodyOf(JsonNode content) {
+        String text = content.path("text").asText("");
+        if ("base64".equals(content.path("encoding").asText())) {
+            return Base64.getDecoder().decode(text);
+        }
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static boolean isCompressed(Path file) {
+        return file.getFileName().toString().endsWith(".gz");
+    }
+
+    private static String withoutQuery(String url) {
+        int query = url.indexOf('?');
+        return query < 0 ? url : url.substring(0, query);
+    }
+}
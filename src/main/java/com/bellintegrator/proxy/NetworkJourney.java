@@ -0,0 +1,131 @@
+package com.bellintegrator.proxy;
+
+import com.bellintegrator.properties.Properties;
+import net.lightbody.bmp.BrowserMobProxy;
+import net.lightbody.bmp.BrowserMobProxyServer;
+import net.lightbody.bmp.client.ClientUtil;
+import net.lightbody.bmp.proxy.CaptureType;
+import org.openqa.selenium.chrome.ChromeOptions;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Класс NetworkJourney подключает браузеры к записи или воспроизведению сетевых ответов
+ * в зависимости от свойства proxy.mode. Шаги и страницы об этом не знают.
+ * <p>
+ * В режиме record все сессии работают через общий прокси BrowserMob, который расшифровывает HTTPS
+ * и собирает ответы в HAR; при завершении JVM HAR записывается в файл proxy.har.file.
+ * В режиме replay прокси не используется: браузер разрешает все хосты в адрес локального
+ * {@link ReplayServer}, поэтому воспроизведение не требует сети. Воспроизводятся только HTTPS запросы.
+ * Перед первым воспроизведением путь нужно записать прогоном в режиме record с тем же proxy.har.file.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class NetworkJourney {
+
+    private static final NetworkJourney INSTANCE = new NetworkJourney(ProxyMode.fromProperties());
+
+    private final ProxyMode mode;
+    private final Path harFile;
+    private BrowserMobProxy recorder;
+    private ReplayServer replayServer;
+    private int replayPort;
+
+    /**
+     * Конструктор класса NetworkJourney.
+     *
+     * @param mode режим сети браузера.
+     */
+    private NetworkJourney(ProxyMode mode) {
+        this.mode = mode;
+        this.harFile = Paths.get(Properties.testsProperties.proxyHarFile());
+    }
+
+    /**
+     * Возвращает общий экземпляр для всех сессий.
+     *
+     * @return экземпляр NetworkJourney.
+     */
+    public static NetworkJourney getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Дополняет параметры запуска Chrome для текущего режима, при первом вызове
+     * запуская прокси записи или сервер воспроизведения.
+     *
+     * @param options параметры запуска Chrome.
+     */
+    public synchronized void configure(ChromeOptions options) {
+        switch (mode) {
+            case RECORD:
+                if (recorder == null) {
+                    startRecorder();
+                }
+                options.setProxy(ClientUtil.createSeleniumProxy(recorder));
+                options.setAcceptInsecureCerts(true);
+                break;
+            case REPLAY:
+                if (replayServer == null) {
+                    startReplayServer();
+                }
+                // последнее правило --host-resolver-rules заменяет правила профиля запуска
+                options.addArguments("--host-resolver-rules=MAP * 127.0.0.1:" + replayPort + ", EXCLUDE localhost",
+                        "--ignore-certificate-errors");
+                options.setAcceptInsecureCerts(true);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Запускает прокси записи и регистрирует сохранение HAR при завершении JVM.
+     */
+    private void startRecorder() {
+        BrowserMobProxyServer proxy = new BrowserMobProxyServer();
+        proxy.setTrustAllServers(true);
+        proxy.enableHarCaptureTypes(CaptureType.RESPONSE_HEADERS, CaptureType.RESPONSE_CONTENT,
+                CaptureType.RESPONSE_BINARY_CONTENT);
+        proxy.start(0);
+        proxy.newHar("journey");
+        recorder = proxy;
+        Runtime.getRuntime().addShutdownHook(new Thread(this::saveRecording, "network-journey-save"));
+    }
+
+    /**
+     * Загружает хранилище ответов и запускает сервер воспроизведения.
+     */
+    private void startReplayServer() {
+        if (!Files.exists(harFile)) {
+            throw new IllegalStateException("Нет записанных ответов " + harFile.toAbsolutePath()
+                    + ": сначала выполните прогон с proxy.mode=record");
+        }
+        try {
+            ReplayServer server = new ReplayServer(new HarStore(HarStore.read(harFile)),
+                    Properties.testsProperties.proxyReplayLatencyMillis());
+            replayPort = server.start();
+            replayServer = server;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось загрузить записанные ответы из " + harFile, e);
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(replayServer::stop, "network-journey-stop"));
+    }
+
+    /**
+     * Записывает собранный HAR в файл и останавливает прокси.
+     */
+    private void saveRecording() {
+        try {
+            HarStore.write(recorder.getHar(), harFile);
+        } catch (IOException e) {
+            e.printStackTrace();
+        } finally {
+            recorder.stop();
+        }
+    }
+}
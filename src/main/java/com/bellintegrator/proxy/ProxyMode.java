@@ -0,0 +1,30 @@
+package com.bellintegrator.proxy;
+
+import com.bellintegrator.properties.Properties;
+
+/**
+ * Режимы сети браузера, выбираемые свойством proxy.mode.
+ * <ul>
+ *     <li>OFF - браузер обращается к сайту напрямую;</li>
+ *     <li>RECORD - все ответы записываются в хранилище HAR через локальный прокси;</li>
+ *     <li>REPLAY - ответы отдаются из хранилища HAR локальным сервером, сеть не используется.</li>
+ * </ul>
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum ProxyMode {
+
+    OFF,
+    RECORD,
+    REPLAY;
+
+    /**
+     * Возвращает режим, заданный свойством proxy.mode.
+     *
+     * @return режим сети браузера.
+     */
+    public static ProxyMode fromProperties() {
+        return valueOf(Properties.testsProperties.proxyMode().trim().toUpperCase());
+    }
+}
@@ -0,0 +1,42 @@
+package com.bellintegrator.proxy;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Записанный ответ сервера: код, заголовки и тело.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class RecordedResponse {
+
+    private final int status;
+    private final List<Map.Entry<String, String>> headers;
+    private final byte[] body;
+
+    /**
+     * Конструктор класса RecordedResponse.
+     *
+     * @param status  код ответа.
+     * @param headers заголовки ответа в записанном порядке.
+     * @param body    тело ответа без сжатия.
+     */
+    public RecordedResponse(int status, List<Map.Entry<String, String>> headers, byte[] body) {
+        this.status = status;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public List<Map.Entry<String, String>> getHeaders() {
+        return headers;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+}
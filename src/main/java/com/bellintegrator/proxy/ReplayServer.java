@@ -0,0 +1,139 @@
+package com.bellintegrator.proxy;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsServer;
+import net.lightbody.bmp.mitm.CertificateAndKey;
+import net.lightbody.bmp.mitm.RootCertificateGenerator;
+import net.lightbody.bmp.mitm.util.KeyStoreUtil;
+import javax.net.ssl.SSLContext;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Локальный HTTPS сервер, отдающий ответы из {@link HarStore}.
+ * Браузер направляет на него запросы ко всем хостам через правила разрешения имен,
+ * поэтому исходный URL восстанавливается по заголовку Host. Сертификат сервера самоподписанный,
+ * браузер запускается с игнорированием ошибок сертификатов. Незаписанные запросы получают ответ 404.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ReplayServer {
+
+    private static final String PASSWORD = "replay";
+    private static final Set<String> SKIPPED_HEADERS = new HashSet<>(Arrays.asList(
+            "content-encoding", "content-length", "transfer-encoding", "connection", "keep-alive", "alt-svc"));
+
+    private final HarStore store;
+    private final long latencyMillis;
+    private HttpsServer server;
+    private ExecutorService executor;
+
+    /**
+     * Конструктор класса ReplayServer.
+     *
+     * @param store         хранилище записанных ответов.
+     * @param latencyMillis задержка перед каждым ответом в миллисекундах.
+     */
+    public ReplayServer(HarStore store, long latencyMillis) {
+        this.store = store;
+        this.latencyMillis = latencyMillis;
+    }
+
+    /**
+     * Запускает сервер на свободном порту локального интерфейса.
+     *
+     * @return порт сервера.
+     * @throws IOException если сервер не удалось запустить.
+     */
+    public int start() throws IOException {
+        server = HttpsServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setHttpsConfigurator(new HttpsConfigurator(createSslContext()));
+        server.createContext("/", this::handle);
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "replay-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.start();
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Останавливает сервер.
+     */
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Отдает записанный ответ на запрос.
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String host = exchange.getRequestHeaders().getFirst("Host");
+            if (host != null && host.indexOf(':') >= 0) {
+                host = host.substring(0, host.indexOf(':'));
+            }
+            RecordedResponse response = store.next(exchange.getRequestMethod(),
+                    "https://" + host + exchange.getRequestURI().toString());
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+            if (response == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            for (Map.Entry<String, String> header : response.getHeaders()) {
+                if (!SKIPPED_HEADERS.contains(header.getKey().toLowerCase())) {
+                    exchange.getResponseHeaders().add(header.getKey(), header.getValue());
+                }
+            }
+            byte[] body = response.getBody();
+            int status = response.getStatus();
+            boolean emptyBody = body.length == 0 || status == 204 || status == 304
+                    || "HEAD".equals(exchange.getRequestMethod());
+            exchange.sendResponseHeaders(status, emptyBody ? -1 : body.length);
+            if (!emptyBody) {
+                try (OutputStream output = exchange.getResponseBody()) {
+                    output.write(body);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Создает SSLContext с самоподписанным сертификатом.
+     */
+    private static SSLContext createSslContext() throws IOException {
+        CertificateAndKey certificateAndKey = RootCertificateGenerator.builder().build().load();
+        KeyStore keyStore = KeyStoreUtil.createRootCertificateKeyStore("PKCS12",
+                certificateAndKey.getCertificate(), "replay", certificateAndKey.getPrivateKey(), PASSWORD, null);
+        try {
+            SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(KeyStoreUtil.getKeyManagers(keyStore, PASSWORD, null, null), null, null);
+            return sslContext;
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Не удалось создать SSLContext сервера воспроизведения", e);
+        }
+    }
+}
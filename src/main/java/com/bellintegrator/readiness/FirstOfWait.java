@@ -0,0 +1,119 @@
+package com.bellintegrator.readiness;
+
+import com.bellintegrator.service.CompiledLocator;
+import com.bellintegrator.service.Locators;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.FluentWait;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Класс FirstOfWait ожидает первый из нескольких локаторов, который найдет видимый элемент.
+ * Все локаторы проверяются одним вызовом JavaScript за опрос, поэтому ожидание не зависит
+ * от неявного ожидания WebDriver и не тратит его на отсутствующие элементы.
+ * Если в одном опросе найдено несколько вариантов, выбирается добавленный раньше.
+ *
+ * @param <K> тип ключа, обозначающего вариант.
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class FirstOfWait<K> {
+
+    private static final String FIND_FIRST_SCRIPT =
+            "var candidates = arguments[0];" +
+            "function visible(el) { return el.getClientRects().length > 0 && " +
+            "  window.getComputedStyle(el).visibility !== 'hidden'; }" +
+            "for (var i = 0; i < candidates.length; i++) {" +
+            "  var nodes = [];" +
+            "  if (candidates[i][0]) {" +
+            "    nodes = document.querySelectorAll(candidates[i][0]);" +
+            "  } else {" +
+            "    var snapshot = document.evaluate(candidates[i][1], document, null," +
+            "        XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+            "    for (var j = 0; j < snapshot.snapshotLength; j++) { nodes.push(snapshot.snapshotItem(j)); }" +
+            "  }" +
+            "  for (var k = 0; k < nodes.length; k++) {" +
+            "    if (visible(nodes[k])) { return [i, nodes[k]]; }" +
+            "  }" +
+            "}" +
+            "return null;";
+
+    private static final long POLLING_MILLIS = 100;
+
+    private final WebDriver webDriver;
+    private final long timeoutMillis;
+    private final List<K> keys = new ArrayList<>();
+    private final List<List<String>> candidates = new ArrayList<>();
+
+    /**
+     * Конструктор класса FirstOfWait.
+     *
+     * @param webDriver     экземпляр WebDriver для взаимодействия с браузером.
+     * @param timeoutMillis максимальное время ожидания.
+     */
+    public FirstOfWait(WebDriver webDriver, long timeoutMillis) {
+        this.webDriver = webDriver;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Добавляет вариант ожидания.
+     *
+     * @param key             ключ, возвращаемый, если этот вариант появится первым.
+     * @param xpathExpression XPath выражение для поиска элемента.
+     * @return этот же объект для цепочки вызовов.
+     */
+    public FirstOfWait<K> or(K key, String xpathExpression) {
+        CompiledLocator locator = Locators.compile(xpathExpression);
+        List<String> candidate = new ArrayList<>(2);
+        candidate.add(locator.getCss());
+        candidate.add(locator.getXpath());
+        keys.add(key);
+        candidates.add(candidate);
+        return this;
+    }
+
+    /**
+     * Ожидает первый появившийся вариант.
+     *
+     * @return найденный вариант и его элемент.
+     * @throws TimeoutException если ни один вариант не появился за отведенное время.
+     */
+    public Match<K> await() {
+        List<?> found = new FluentWait<>(webDriver)
+                .withTimeout(Duration.ofMillis(timeoutMillis))
+                .pollingEvery(Duration.ofMillis(POLLING_MILLIS))
+                .withMessage("ни один из вариантов " + keys + " не появился")
+                .until(driver -> (List<?>) ((JavascriptExecutor) driver).executeScript(FIND_FIRST_SCRIPT, candidates));
+        int index = ((Number) found.get(0)).intValue();
+        return new Match<>(keys.get(index), (WebElement) found.get(1));
+    }
+
+    /**
+     * Вариант, появившийся первым.
+     *
+     * @param <K> тип ключа, обозначающего вариант.
+     */
+    public static class Match<K> {
+
+        private final K key;
+        private final WebElement element;
+
+        Match(K key, WebElement element) {
+            this.key = key;
+            this.element = element;
+        }
+
+        public K getKey() {
+            return key;
+        }
+
+        public WebElement getElement() {
+            return element;
+        }
+    }
+}
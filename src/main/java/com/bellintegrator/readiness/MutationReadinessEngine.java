@@ -0,0 +1,156 @@
+package com.bellintegrator.readiness;
+
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Движок готовности, основанный на событиях страницы.
+ * Перед действием в страницу устанавливаются MutationObserver, следящий за paginatorContent,
+ * и счетчик незавершенных запросов fetch и XHR. Учитываются только запросы, начатые после установки,
+ * поэтому долгие запросы страницы (аналитика, long-poll, потоковые ответы) не мешают ожиданию.
+ * После действия один асинхронный скрипт ждет, пока запросы действия завершатся, а изменения
+ * paginatorContent затихнут на заданное время. Если действие ничего не изменило (например, фильтр
+ * уже имел это значение), страница считается готовой после такого же периода тишины.
+ * Если действие перезагрузило страницу, готовностью считается появление paginatorContent в новом документе.
+ * Ожидание делится на вызовы по три четверти таймаута скриптов WebDriver; ошибки, не связанные
+ * с выгрузкой документа или таймаутом скрипта (закрытая сессия, открытый alert), не подавляются.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class MutationReadinessEngine implements ReadinessEngine {
+
+    private static final String INSTALL_SCRIPT =
+            "var s = window.__bellReadiness;" +
+            "if (!s) {" +
+            "  s = window.__bellReadiness = {generation: 0, inflight: 0, changes: 0, lastChange: Date.now()};" +
+            "  var track = function() {" +
+            "    var generation = s.generation, settled = false;" +
+            "    s.inflight++;" +
+            "    return function() {" +
+            "      if (settled || generation !== s.generation) { return; }" +
+            "      settled = true; s.inflight--; s.lastChange = Date.now();" +
+            "    };" +
+            "  };" +
+            "  if (window.fetch) {" +
+            "    var originalFetch = window.fetch;" +
+            "    window.fetch = function() {" +
+            "      var settle = track();" +
+            "      try { return originalFetch.apply(this, arguments).finally(settle); }" +
+            "      catch (e) { settle(); throw e; }" +
+            "    };" +
+            "  }" +
+            "  var originalSend = XMLHttpRequest.prototype.send;" +
+            "  XMLHttpRequest.prototype.send = function() {" +
+            "    this.addEventListener('loadend', track());" +
+            "    return originalSend.apply(this, arguments);" +
+            "  };" +
+            "  var touches = function(record) {" +
+            "    var target = record.target.nodeType === 1 ? record.target : record.target.parentElement;" +
+            "    if (target && target.closest('#paginatorContent')) { return true; }" +
+            "    var nodes = Array.prototype.slice.call(record.addedNodes)" +
+            "        .concat(Array.prototype.slice.call(record.removedNodes));" +
+            "    for (var i = 0; i < nodes.length; i++) {" +
+            "      var node = nodes[i];" +
+            "      if (node.nodeType === 1 && (node.id === 'paginatorContent'" +
+            "          || node.querySelector('#paginatorContent'))) { return true; }" +
+            "    }" +
+            "    return false;" +
+            "  };" +
+            "  new MutationObserver(function(records) {" +
+            "    for (var i = 0; i < records.length; i++) {" +
+            "      if (touches(records[i])) { s.changes++; s.lastChange = Date.now(); return; }" +
+            "    }" +
+            "  }).observe(document.documentElement, {childList: true, subtree: true, characterData: true});" +
+            "}" +
+            "s.generation++; s.inflight = 0; s.armedChanges = s.changes; s.lastChange = Date.now();";
+
+    private static final String AWAIT_SCRIPT =
+            "var done = arguments[arguments.length - 1];" +
+            "var quietMillis = arguments[0], deadline = Date.now() + arguments[1];" +
+            "(function poll() {" +
+            "  var s = window.__bellReadiness, now = Date.now();" +
+            "  if (!s) {" +
+            "    if (document.readyState !== 'loading' && document.getElementById('paginatorContent')) {" +
+            "      done('reloaded'); return;" +
+            "    }" +
+            "  } else if (s.inflight <= 0 && now - s.lastChange >= quietMillis) {" +
+            "    done(s.changes > s.armedChanges ? 'settled' : 'unchanged'); return;" +
+            "  }" +
+            "  if (now >= deadline) { done('timeout'); return; }" +
+            "  setTimeout(poll, 50);" +
+            "})();";
+
+    private final WebDriver webDriver;
+    private final long quietMillis;
+    private final long timeoutMillis;
+    private final long scriptTimeoutMillis;
+
+    /**
+     * Конструктор класса MutationReadinessEngine.
+     *
+     * @param webDriver           экземпляр WebDriver для взаимодействия с браузером.
+     * @param quietMillis         время без изменений paginatorContent, после которого страница считается готовой.
+     * @param timeoutMillis       максимальное время ожидания готовности.
+     * @param scriptTimeoutMillis таймаут выполнения асинхронного скрипта, установленный в WebDriver.
+     * @throws IllegalArgumentException если таймаут скриптов не положителен.
+     */
+    public MutationReadinessEngine(WebDriver webDriver, long quietMillis, long timeoutMillis, long scriptTimeoutMillis) {
+        if (scriptTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("Таймаут скриптов WebDriver должен быть положительным: "
+                    + scriptTimeoutMillis + " мс");
+        }
+        this.webDriver = webDriver;
+        this.quietMillis = quietMillis;
+        this.timeoutMillis = timeoutMillis;
+        this.scriptTimeoutMillis = scriptTimeoutMillis;
+    }
+
+    @Override
+    public void perform(Runnable action) {
+        JavascriptExecutor js = (JavascriptExecutor) webDriver;
+        js.executeScript(INSTALL_SCRIPT);
+        action.run();
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (true) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                throw new TimeoutException("Страница не обновилась за " + timeoutMillis + " мс");
+            }
+            long chunk = Math.max(1, Math.min(remaining, scriptTimeoutMillis * 3 / 4));
+            try {
+                Object result = js.executeAsyncScript(AWAIT_SCRIPT, quietMillis, chunk);
+                if (!"timeout".equals(result)) {
+                    return;
+                }
+            } catch (ScriptTimeoutException e) {
+                // вызов не уложился в таймаут скриптов: продолжаем ждать следующим вызовом
+            } catch (WebDriverException e) {
+                if (!isDocumentUnloaded(e)) {
+                    throw e;
+                }
+                // документ выгружен во время ожидания: продолжаем ждать в новом документе
+            }
+        }
+    }
+
+    /**
+     * Проверяет, что асинхронный скрипт прерван переходом страницы на новый документ.
+     *
+     * @param e ошибка выполнения скрипта.
+     * @return true, если ошибка вызвана выгрузкой документа.
+     */
+    private static boolean isDocumentUnloaded(WebDriverException e) {
+        if (!(e instanceof JavascriptException) && e.getClass() != WebDriverException.class) {
+            return false;
+        }
+        String message = String.valueOf(e.getMessage());
+        return message.contains("document unloaded")
+                || message.contains("Execution context was destroyed")
+                || message.contains("Inspected target navigated or closed");
+    }
+}
@@ -0,0 +1,18 @@
+package com.bellintegrator.readiness;
+
+/**
+ * Интерфейс движка готовности страницы: выполняет действие, меняющее страницу,
+ * и ожидает, пока страница снова будет готова к работе.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface ReadinessEngine {
+
+    /**
+     * Выполняет действие и ожидает завершения обновления страницы, вызванного этим действием.
+     *
+     * @param action действие, после которого страница обновляется (например, изменение фильтра).
+     */
+    void perform(Runnable action);
+}
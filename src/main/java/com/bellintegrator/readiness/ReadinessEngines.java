@@ -0,0 +1,31 @@
+package com.bellintegrator.readiness;
+
+import com.bellintegrator.properties.Properties;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+/**
+ * Класс ReadinessEngines создает движок готовности страницы по свойству readiness.engine.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ReadinessEngines {
+
+    /**
+     * Создает движок готовности, заданный свойством readiness.engine: mutation или staleness.
+     *
+     * @param webDriver экземпляр WebDriver для взаимодействия с браузером.
+     * @param wait      WebDriverWait страницы, используемый движком staleness.
+     * @return движок готовности.
+     */
+    public static ReadinessEngine create(WebDriver webDriver, WebDriverWait wait) {
+        if ("staleness".equalsIgnoreCase(Properties.testsProperties.readinessEngine())) {
+            return new StalenessReadinessEngine(wait);
+        }
+        return new MutationReadinessEngine(webDriver,
+                Properties.testsProperties.readinessQuietMillis(),
+                Properties.testsProperties.webDriverWait() * 1000L,
+                Properties.testsProperties.scriptTimeout() * 1000L);
+    }
+}
@@ -0,0 +1,37 @@
+package com.bellintegrator.readiness;
+
+import com.bellintegrator.service.Locators;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+/**
+ * Движок готовности, который ожидает появления индикатора загрузки перед paginatorContent
+ * и его исчезновения, опрашивая страницу через WebDriverWait.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class StalenessReadinessEngine implements ReadinessEngine {
+
+    private final WebDriverWait wait;
+
+    /**
+     * Конструктор класса StalenessReadinessEngine.
+     *
+     * @param wait WebDriverWait для ожидания индикатора загрузки.
+     */
+    public StalenessReadinessEngine(WebDriverWait wait) {
+        this.wait = wait;
+    }
+
+    @Override
+    public void perform(Runnable action) {
+        action.run();
+        By loadingIndicatorBy =
+                Locators.xpath("//div[contains(@class, '')][following-sibling::div[@id='paginatorContent']]");
+        WebElement loadingElement = wait.until(ExpectedConditions.presenceOfElementLocated(loadingIndicatorBy));
+        wait.until(ExpectedConditions.stalenessOf(loadingElement));
+    }
+}
@@ -0,0 +1,103 @@
+package com.bellintegrator.readiness;
+
+import com.bellintegrator.pages.RequiredWidgets;
+import com.bellintegrator.properties.Properties;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.FluentWait;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Класс WidgetReadiness ожидает готовности страницы по контракту {@link RequiredWidgets}.
+ * Сессии запускаются со стратегией загрузки из свойства webdriver.page.load.strategy (eager или none),
+ * поэтому переход не ждет загрузки картинок, шрифтов и скриптов, а готовность страницы
+ * определяется появлением нужных виджетов. Все виджеты проверяются одним вызовом JavaScript за опрос.
+ * Переход на страницу с промежуточным экраном завершается и на этом экране; шаг, который его проходит,
+ * затем ожидает виджеты через {@link #await(WebDriver, Class)}.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class WidgetReadiness {
+
+    private static final String MARK_STALE_SCRIPT = "window.__widgetReadinessStale = true;";
+
+    private static final String MISSING_WIDGETS_SCRIPT =
+            "if (window.__widgetReadinessStale) { return ['документ предыдущей страницы']; }" +
+            "var groups = arguments[0], interstitial = arguments[1], missing = [];" +
+            "if (interstitial && document.evaluate(interstitial, document, null," +
+            "    XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue !== null) { return []; }" +
+            "for (var i = 0; i < groups.length; i++) {" +
+            "  var names = groups[i].split('|'), found = false;" +
+            "  for (var j = 0; j < names.length && !found; j++) {" +
+            "    found = document.querySelector(\"[data-widget='\" + names[j] + \"']\") !== null;" +
+            "  }" +
+            "  if (!found) { missing.push(groups[i]); }" +
+            "}" +
+            "return missing;";
+
+    private static final long POLLING_MILLIS = 100;
+
+    /**
+     * Открывает URL и ожидает виджеты, объявленные классом страницы, или ее промежуточный экран.
+     * Текущий документ помечается перед переходом, чтобы при стратегии none
+     * виджеты предыдущей страницы не были приняты за виджеты новой.
+     *
+     * @param webDriver экземпляр WebDriver для взаимодействия с браузером.
+     * @param url       адрес страницы.
+     * @param pageClass класс страницы, помеченный {@link RequiredWidgets}.
+     */
+    public static void open(WebDriver webDriver, String url, Class<?> pageClass) {
+        try {
+            ((JavascriptExecutor) webDriver).executeScript(MARK_STALE_SCRIPT);
+        } catch (WebDriverException e) {
+            // скрипты недоступны на страницах с ошибкой, пометка не нужна
+        }
+        webDriver.get(url);
+        await(webDriver, pageClass, true);
+    }
+
+    /**
+     * Ожидает виджеты, объявленные классом страницы, в текущем документе.
+     *
+     * @param webDriver экземпляр WebDriver для взаимодействия с браузером.
+     * @param pageClass класс страницы, помеченный {@link RequiredWidgets}.
+     * @throws org.openqa.selenium.TimeoutException если виджеты не появились за время webdriver.wait.
+     */
+    public static void await(WebDriver webDriver, Class<?> pageClass) {
+        await(webDriver, pageClass, false);
+    }
+
+    /**
+     * Ожидает виджеты страницы; при acceptInterstitial достаточно и промежуточного экрана страницы.
+     */
+    private static void await(WebDriver webDriver, Class<?> pageClass, boolean acceptInterstitial) {
+        List<String> widgets = requiredWidgets(pageClass);
+        if (widgets.isEmpty()) {
+            return;
+        }
+        RequiredWidgets requiredWidgets = pageClass.getAnnotation(RequiredWidgets.class);
+        String interstitial = acceptInterstitial ? requiredWidgets.interstitial() : "";
+        new FluentWait<>(webDriver)
+                .withTimeout(Duration.ofSeconds(Properties.testsProperties.webDriverWait()))
+                .pollingEvery(Duration.ofMillis(POLLING_MILLIS))
+                .withMessage(pageClass.getSimpleName() + " не дождалась виджетов " + widgets)
+                .until(driver -> ((List<?>) ((JavascriptExecutor) driver)
+                        .executeScript(MISSING_WIDGETS_SCRIPT, widgets, interstitial)).isEmpty());
+    }
+
+    /**
+     * Возвращает виджеты, объявленные классом страницы.
+     *
+     * @param pageClass класс страницы.
+     * @return список имен виджетов или пустой список, если класс не помечен {@link RequiredWidgets}.
+     */
+    public static List<String> requiredWidgets(Class<?> pageClass) {
+        RequiredWidgets requiredWidgets = pageClass.getAnnotation(RequiredWidgets.class);
+        return requiredWidgets == null ? Collections.emptyList() : Arrays.asList(requiredWidgets.value());
+    }
+}
@@ -1,8 +1,6 @@
 package com.bellintegrator.service;
 
 import io.qameta.allure.Step;
-import com.bellintegrator.webdriver.WebDriverInitialization;
-import org.openqa.selenium.WebDriver;
 
 /**
  * Класс Assertions содержит методы для выполнения проверок в тестах с использованием аннотаций Allure.
@@ -22,10 +20,7 @@ public class Assertions {
     @Step("Проверяем, что условие истинно: {message}")
     public static void assertTrue(boolean condition, String message) {
         org.junit.jupiter.api.Assertions.assertTrue(condition, message);
-        WebDriver webDriver = WebDriverInitialization.webDriver;
-        if (webDriver != null) {
-            ScreenShooter.getScreen(webDriver);
-        }
+        ScreenShooter.getScreen();
     }
 
     /**
@@ -36,9 +31,5 @@ public class Assertions {
     @Step("Проверка завершилась неудачей: {message}")
     public static void fail(String message) {
         org.junit.jupiter.api.Assertions.fail(message);
-        WebDriver webDriver = WebDriverInitialization.webDriver;
-        if (webDriver != null) {
-            ScreenShooter.getScreen(webDriver);
-        }
     }
 }
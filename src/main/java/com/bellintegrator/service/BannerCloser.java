@@ -1,6 +1,5 @@
 package com.bellintegrator.service;
 
-import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
@@ -14,7 +13,7 @@ public class BannerCloser {
      * @param xpathExpression XPath выражение для поиска предупреждения о файлах cookie
      */
     public static void closeCookieWarning(WebDriverWait wait, String xpathExpression) {
-        WebElement cookieWarning = wait.until(ExpectedConditions.visibilityOfElementLocated(By.xpath(xpathExpression)));
+        WebElement cookieWarning = wait.until(ExpectedConditions.visibilityOfElementLocated(Locators.xpath(xpathExpression)));
         if (cookieWarning != null && cookieWarning.isDisplayed() && cookieWarning.isEnabled()) {
             cookieWarning.click();
         }
@@ -27,7 +26,7 @@ public class BannerCloser {
      * @param xpathExpression XPath выражение для поиска предупреждения о проверки локации
      */
     public static void closeLocationWarning(WebDriverWait wait, String xpathExpression) {
-        WebElement warningButton = wait.until(ExpectedConditions.presenceOfElementLocated(By.xpath(xpathExpression)));
+        WebElement warningButton = wait.until(ExpectedConditions.presenceOfElementLocated(Locators.xpath(xpathExpression)));
         if (warningButton != null && warningButton.isDisplayed() && warningButton.isEnabled()) {
             warningButton.click();
         }
@@ -0,0 +1,62 @@
+package com.bellintegrator.service;
+
+import org.openqa.selenium.By;
+
+/**
+ * Класс CompiledLocator содержит результат преобразования XPath выражения в локатор:
+ * CSS селектор, если выражение удалось преобразовать, или причину, по которой оно осталось на XPath.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class CompiledLocator {
+
+    private final String xpath;
+    private final String css;
+    private final String reason;
+    private final By by;
+
+    /**
+     * Конструктор класса CompiledLocator.
+     *
+     * @param xpath  исходное XPath выражение.
+     * @param css    CSS селектор или null, если выражение осталось на XPath.
+     * @param reason причина, по которой выражение осталось на XPath, или null.
+     */
+    public CompiledLocator(String xpath, String css, String reason) {
+        this.xpath = xpath;
+        this.css = css;
+        this.reason = reason;
+        this.by = css != null ? By.cssSelector(css) : By.xpath(xpath);
+    }
+
+    public String getXpath() {
+        return xpath;
+    }
+
+    public String getCss() {
+        return css;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public By getBy() {
+        return by;
+    }
+
+    /**
+     * Проверяет, что выражение удалось преобразовать в CSS.
+     *
+     * @return true, если для поиска используется CSS селектор.
+     */
+    public boolean isCss() {
+        return css != null;
+    }
+
+    @Override
+    public String toString() {
+        return isCss() ? "CSS   " + css + "  <=  " + xpath : "XPATH " + xpath + "  (" + reason + ")";
+    }
+}
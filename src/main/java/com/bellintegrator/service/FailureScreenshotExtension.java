@@ -0,0 +1,30 @@
+package com.bellintegrator.service;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Расширение JUnit, прикрепляющее скриншот упавшего теста независимо от политики screenshots.policy.
+ * Срабатывает на любое исключение теста, в том числе на исключения WebDriver из шагов
+ * (элемент не найден, истекло ожидание, клик перехвачен), а не только на неудачные проверки.
+ * Вызывается до методов AfterEach, пока сессия еще арендована потоком теста.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class FailureScreenshotExtension implements AfterTestExecutionCallback {
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        if (!context.getExecutionException().isPresent()) {
+            return;
+        }
+        try {
+            ScreenShooter.getFailureScreen();
+        } catch (WebDriverException e) {
+            // сессия недоступна: причина падения теста важнее скриншота
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.bellintegrator.service;
+
+/**
+ * Класс LocatorCompiler преобразует XPath выражения в эквивалентные CSS селекторы.
+ * Поддерживаются оси потомков и детей, имена тегов и предикаты по атрибутам:
+ * равенство, contains, starts-with, наличие атрибута, а также and, not и скобки.
+ * Выражения с предикатами по тексту, по соседним или вложенным элементам и с позициями
+ * не имеют CSS аналога и остаются на XPath.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class LocatorCompiler {
+
+    private final String xpath;
+    private int position;
+
+    /**
+     * Конструктор класса LocatorCompiler.
+     *
+     * @param xpath XPath выражение для преобразования.
+     */
+    private LocatorCompiler(String xpath) {
+        this.xpath = xpath;
+    }
+
+    /**
+     * Преобразует XPath выражение в CSS селектор.
+     *
+     * @param xpath XPath выражение.
+     * @return результат преобразования: CSS селектор или причина, по которой выражение осталось на XPath.
+     */
+    public static CompiledLocator compile(String xpath) {
+        try {
+            return new CompiledLocator(xpath, new LocatorCompiler(xpath).parsePath(), null);
+        } catch (UnsupportedXPathException e) {
+            return new CompiledLocator(xpath, null, e.getMessage());
+        }
+    }
+
+    /**
+     * Разбирает путь: последовательность шагов, разделенных осями // и /.
+     */
+    private String parsePath() {
+        StringBuilder css = new StringBuilder();
+        skipSpaces();
+        if (consume(".//") || consume("//")) {
+            css.append(parseStep());
+        } else {
+            throw unsupported("путь должен начинаться с // или .//");
+        }
+        while (position < xpath.length()) {
+            if (consume("//")) {
+                css.append(' ').append(parseStep());
+            } else if (consume("/")) {
+                css.append(" > ").append(parseStep());
+            } else {
+                throw unsupported("неожиданный символ '" + xpath.charAt(position) + "'");
+            }
+        }
+        return css.toString();
+    }
+
+    /**
+     * Разбирает шаг пути: имя тега и предикаты.
+     */
+    private String parseStep() {
+        String tagName;
+        if (consume("*")) {
+            tagName = "*";
+        } else {
+            tagName = parseName();
+        }
+        if (peek(':')) {
+            throw unsupported("ось " + tagName + ":: не поддерживается в CSS");
+        }
+        StringBuilder step = new StringBuilder(tagName);
+        while (consume("[")) {
+            step.append(parseExpression());
+            skipSpaces();
+            expect("]");
+        }
+        if (step.length() > 1 && step.charAt(0) == '*') {
+            step.deleteCharAt(0);
+        }
+        return step.toString();
+    }
+
+    /**
+     * Разбирает выражение предиката, состоящее из условий, соединенных через and.
+     */
+    private String parseExpression() {
+        StringBuilder condition = new StringBuilder(parseUnary());
+        while (consumeKeyword("and")) {
+            condition.append(parseUnary());
+        }
+        skipSpaces();
+        if (peekKeyword("or")) {
+            throw unsupported("условие or не поддерживается");
+        }
+        return condition.toString();
+    }
+
+    /**
+     * Разбирает одно условие предиката.
+     */
+    private String parseUnary() {
+        skipSpaces();
+        if (consume("(")) {
+            String condition = parseExpression();
+            skipSpaces();
+            expect(")");
+            return condition;
+        }
+        if (consumeKeyword("not")) {
+            skipSpaces();
+            expect("(");
+            String condition = parseExpression();
+            skipSpaces();
+            expect(")");
+            if (condition.isEmpty()) {
+                throw unsupported("отрицание всегда истинного условия");
+            }
+            return ":not(" + condition + ")";
+        }
+        if (consumeKeyword("contains")) {
+            return parseFunction("*=");
+        }
+        if (consumeKeyword("starts-with")) {
+            return parseFunction("^=");
+        }
+        if (peek('@')) {
+            String attribute = parseAttribute();
+            skipSpaces();
+            if (consume("=")) {
+                return attributeSelector(attribute, "=", parseLiteral());
+            }
+            if (peek('!') || peek('<') || peek('>')) {
+                throw unsupported("сравнение атрибута не поддерживается");
+            }
+            return "[" + attribute + "]";
+        }
+        if (position < xpath.length() && Character.isDigit(xpath.charAt(position))) {
+            throw unsupported("позиционный предикат");
+        }
+        if (xpath.startsWith("text()", position) || xpath.startsWith(".", position)) {
+            throw unsupported("предикат по тексту");
+        }
+        throw unsupported("предикат по соседнему или вложенному элементу");
+    }
+
+    /**
+     * Разбирает аргументы функции contains или starts-with.
+     */
+    private String parseFunction(String operator) {
+        skipSpaces();
+        expect("(");
+        skipSpaces();
+        String attribute = null;
+        if (peek('@')) {
+            attribute = parseAttribute();
+        } else if (consume("text()") || consume(".")) {
+            attribute = null;
+        } else {
+            throw unsupported("неподдерживаемый аргумент функции");
+        }
+        skipSpaces();
+        expect(",");
+        String value = parseLiteral();
+        skipSpaces();
+        expect(")");
+        if (value.isEmpty()) {
+            return ""; // contains(x, '') и starts-with(x, '') истинны для любого элемента
+        }
+        if (attribute == null) {
+            throw unsupported("предикат по тексту");
+        }
+        return attributeSelector(attribute, operator, value);
+    }
+
+    /**
+     * Разбирает имя атрибута после символа @.
+     */
+    private String parseAttribute() {
+        expect("@");
+        return parseName();
+    }
+
+    /**
+     * Разбирает имя тега или атрибута.
+     */
+    private String parseName() {
+        int start = position;
+        while (position < xpath.length()) {
+            char c = xpath.charAt(position);
+            if (Character.isLetterOrDigit(c) || c == '-' || c == '_') {
+                position++;
+            } else {
+                break;
+            }
+        }
+        if (start == position) {
+            throw unsupported("ожидалось имя в позиции " + position);
+        }
+        return xpath.substring(start, position);
+    }
+
+    /**
+     * Разбирает строковый литерал в одинарных или двойных кавычках.
+     */
+    private String parseLiteral() {
+        skipSpaces();
+        if (position >= xpath.length() || (xpath.charAt(position) != '\'' && xpath.charAt(position) != '"')) {
+            throw unsupported("ожидалась строка в позиции " + position);
+        }
+        char quote = xpath.charAt(position++);
+        int end = xpath.indexOf(quote, position);
+        if (end < 0) {
+            throw unsupported("незакрытая строка");
+        }
+        String literal = xpath.substring(position, end);
+        position = end + 1;
+        return literal;
+    }
+
+    /**
+     * Формирует CSS селектор атрибута, экранируя значение.
+     */
+    private static String attributeSelector(String attribute, String operator, String value) {
+        return "[" + attribute + operator + "'" + value.replace("\\", "\\\\").replace("'", "\\'") + "']";
+    }
+
+    private boolean consume(String token) {
+        if (xpath.startsWith(token, position)) {
+            position += token.length();
+            return true;
+        }
+        return false;
+    }
+
+    private boolean consumeKeyword(String keyword) {
+        skipSpaces();
+        if (peekKeyword(keyword)) {
+            position += keyword.length();
+            return true;
+        }
+        return false;
+    }
+
+    private boolean peekKeyword(String keyword) {
+        int end = position + keyword.length();
+        if (!xpath.startsWith(keyword, position)) {
+            return false;
+        }
+        return end >= xpath.length() || !(Character.isLetterOrDigit(xpath.charAt(end)) || xpath.charAt(end) == '-');
+    }
+
+    private boolean peek(char c) {
+        return position < xpath.length() && xpath.charAt(position) == c;
+    }
+
+    private void expect(String token) {
+        if (!consume(token)) {
+            throw unsupported("ожидалось '" + token + "' в позиции " + position);
+        }
+    }
+
+    private void skipSpaces() {
+        while (position < xpath.length() && Character.isWhitespace(xpath.charAt(position))) {
+            position++;
+        }
+    }
+
+    private UnsupportedXPathException unsupported(String reason) {
+        return new UnsupportedXPathException(reason);
+    }
+
+    /**
+     * Исключение, означающее, что выражение нельзя выразить через CSS.
+     */
+    private static class UnsupportedXPathException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedXPathException(String reason) {
+            super(reason, null, false, false);
+        }
+    }
+}
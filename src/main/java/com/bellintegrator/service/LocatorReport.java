@@ -0,0 +1,67 @@
+package com.bellintegrator.service;
+
+import com.bellintegrator.pages.ozon.OzonCatalogPage;
+import com.bellintegrator.pages.ozon.OzonItemPage;
+import com.bellintegrator.pages.ozon.OzonStartPage;
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Класс LocatorReport формирует отчет о том, какие локаторы страниц ищутся через CSS,
+ * а какие остались на медленном XPath.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class LocatorReport {
+
+    /**
+     * Выводит отчет по локаторам страниц Ozon.
+     *
+     * @param args аргументы командной строки
+     */
+    public static void main(String[] args) {
+        System.out.println(describe(OzonStartPage.class, OzonCatalogPage.class, OzonItemPage.class));
+    }
+
+    /**
+     * Формирует отчет по полям с {@link org.openqa.selenium.support.FindBy} указанных страниц
+     * и по XPath выражениям, построенным во время выполнения.
+     *
+     * @param pageClasses классы страниц.
+     * @return текст отчета.
+     */
+    public static String describe(Class<?>... pageClasses) {
+        Collection<CompiledLocator> runtimeLocators = Locators.compiled();
+        Set<String> pageXPaths = new HashSet<>();
+        StringBuilder report = new StringBuilder();
+        int total = 0;
+        int slow = 0;
+        for (Class<?> pageClass : pageClasses) {
+            report.append(pageClass.getSimpleName()).append(System.lineSeparator());
+            for (Field field : pageClass.getDeclaredFields()) {
+                String xpath = OptimizingElementLocatorFactory.findXPath(field);
+                if (xpath == null) {
+                    continue;
+                }
+                CompiledLocator locator = Locators.compile(xpath);
+                pageXPaths.add(xpath);
+                total++;
+                slow += locator.isCss() ? 0 : 1;
+                report.append("  ").append(field.getName()).append(": ").append(locator)
+                        .append(System.lineSeparator());
+            }
+        }
+        report.append("Построены во время выполнения").append(System.lineSeparator());
+        for (CompiledLocator locator : runtimeLocators) {
+            if (pageXPaths.contains(locator.getXpath())) {
+                continue;
+            }
+            report.append("  ").append(locator).append(System.lineSeparator());
+        }
+        report.append("Локаторов страниц на XPath: ").append(slow).append(" из ").append(total);
+        return report.toString();
+    }
+}
@@ -0,0 +1,49 @@
+package com.bellintegrator.service;
+
+import org.openqa.selenium.By;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Класс Locators кеширует локаторы, построенные из XPath выражений.
+ * Выражения, которые можно выразить через CSS, ищутся через CSS селектор,
+ * который браузер выполняет быстрее XPath. Остальные выражения ищутся через XPath.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class Locators {
+
+    private static final Map<String, CompiledLocator> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * Возвращает локатор для XPath выражения, преобразуя его в CSS, если это возможно.
+     *
+     * @param xpathExpression XPath выражение.
+     * @return закешированный локатор.
+     */
+    public static By xpath(String xpathExpression) {
+        return compile(xpathExpression).getBy();
+    }
+
+    /**
+     * Возвращает результат преобразования XPath выражения, используя кеш.
+     *
+     * @param xpathExpression XPath выражение.
+     * @return результат преобразования.
+     */
+    public static CompiledLocator compile(String xpathExpression) {
+        return CACHE.computeIfAbsent(xpathExpression, LocatorCompiler::compile);
+    }
+
+    /**
+     * Возвращает все локаторы, построенные с момента запуска.
+     *
+     * @return коллекция результатов преобразования.
+     */
+    public static Collection<CompiledLocator> compiled() {
+        return new ArrayList<>(CACHE.values());
+    }
+}
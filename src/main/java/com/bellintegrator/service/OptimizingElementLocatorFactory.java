@@ -0,0 +1,70 @@
+package com.bellintegrator.service;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.How;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.pagefactory.DefaultElementLocator;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.openqa.selenium.support.pagefactory.ElementLocatorFactory;
+import java.lang.reflect.Field;
+
+/**
+ * Фабрика локаторов для PageFactory, которая ищет поля с {@link FindBy} по XPath
+ * через закешированные локаторы {@link Locators}, то есть через CSS, если выражение это позволяет.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class OptimizingElementLocatorFactory implements ElementLocatorFactory {
+
+    private final SearchContext searchContext;
+
+    /**
+     * Конструктор фабрики.
+     *
+     * @param searchContext контекст поиска элементов, обычно WebDriver.
+     */
+    public OptimizingElementLocatorFactory(SearchContext searchContext) {
+        this.searchContext = searchContext;
+    }
+
+    @Override
+    public ElementLocator createLocator(Field field) {
+        return new DefaultElementLocator(searchContext, new OptimizingAnnotations(field));
+    }
+
+    /**
+     * Возвращает XPath выражение из аннотации {@link FindBy} поля.
+     *
+     * @param field поле страницы.
+     * @return XPath выражение или null, если поле ищется не по XPath.
+     */
+    static String findXPath(Field field) {
+        FindBy findBy = field.getAnnotation(FindBy.class);
+        if (findBy == null) {
+            return null;
+        }
+        if (!findBy.xpath().isEmpty()) {
+            return findBy.xpath();
+        }
+        return findBy.how() == How.XPATH ? findBy.using() : null;
+    }
+
+    /**
+     * Аннотации поля, заменяющие XPath локатор на закешированный локатор {@link Locators}.
+     */
+    private static class OptimizingAnnotations extends Annotations {
+
+        OptimizingAnnotations(Field field) {
+            super(field);
+        }
+
+        @Override
+        public By buildBy() {
+            String xpath = findXPath(getField());
+            return xpath != null ? Locators.xpath(xpath) : super.buildBy();
+        }
+    }
+}
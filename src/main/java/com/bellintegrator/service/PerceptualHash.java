@@ -0,0 +1,86 @@
+package com.bellintegrator.service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * Класс PerceptualHash вычисляет перцептивный хеш изображения (difference hash)
+ * для быстрого сравнения скриншотов.
+ * Изображение декодируется с прореживанием, уменьшается до 9x8 в оттенках серого,
+ * и каждый бит хеша показывает, светлее ли пиксель своего соседа справа.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class PerceptualHash {
+
+    private static final int HASH_WIDTH = 9;
+    private static final int HASH_HEIGHT = 8;
+    private static final int SUBSAMPLING = 8;
+
+    /**
+     * Вычисляет 64-битный difference hash изображения.
+     *
+     * @param image изображение в формате, поддерживаемом ImageIO.
+     * @return хеш изображения.
+     * @throws IOException если изображение не удалось декодировать.
+     */
+    public static long differenceHash(byte[] image) throws IOException {
+        BufferedImage decoded = decodeSubsampled(image);
+        BufferedImage small = new BufferedImage(HASH_WIDTH, HASH_HEIGHT, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D graphics = small.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(decoded, 0, 0, HASH_WIDTH, HASH_HEIGHT, null);
+        graphics.dispose();
+
+        long hash = 0;
+        for (int y = 0; y < HASH_HEIGHT; y++) {
+            for (int x = 0; x < HASH_WIDTH - 1; x++) {
+                int left = small.getRaster().getSample(x, y, 0);
+                int right = small.getRaster().getSample(x + 1, y, 0);
+                hash = (hash << 1) | (left > right ? 1 : 0);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Возвращает расстояние Хэмминга между двумя хешами.
+     *
+     * @param first  первый хеш.
+     * @param second второй хеш.
+     * @return количество различающихся битов, от 0 до 64.
+     */
+    public static int distance(long first, long second) {
+        return Long.bitCount(first ^ second);
+    }
+
+    /**
+     * Декодирует изображение, пропуская строки и столбцы, чтобы не хранить полноразмерный растр.
+     */
+    private static BufferedImage decodeSubsampled(byte[] image) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(image))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("Неизвестный формат изображения");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(SUBSAMPLING, SUBSAMPLING, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+}
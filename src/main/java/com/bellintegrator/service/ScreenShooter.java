@@ -1,16 +1,11 @@
 package com.bellintegrator.service;
 
-import io.qameta.allure.Attachment;
-import org.apache.commons.io.FileUtils;
-import org.junit.jupiter.api.Assertions;
+import com.bellintegrator.webdriver.WebDriverInitialization;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
-import java.io.File;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 
 /**
  * Класс ScreenShooter содержит методы для создания скриншотов веб-страниц и их элементов.
@@ -23,21 +18,44 @@ public class ScreenShooter {
 
     /**
      * Делает скриншот текущего состояния браузера и прикрепляет его к отчету Allure.
+     * Скриншот снимается в память, а запись вложения выполняется в фоне через {@link ScreenshotPipeline}.
+     * Нужен ли скриншот, решает {@link ScreenshotPolicyEngine}.
      *
      * @param driver экземпляр WebDriver для взаимодействия с браузером.
-     * @return массив байтов, содержащий изображение скриншота.
+     * @return массив байтов, содержащий изображение скриншота, или пустой массив, если скриншот пропущен.
      */
-    @Attachment(value = "Page screenshot", type = "image/png")
     public static byte[] getScreen(WebDriver driver){
-        File screenshot = ((TakesScreenshot)driver).getScreenshotAs(OutputType.FILE);
-        try {
-            FileUtils.copyFile(screenshot, new File("src/main/resources/screenshots/screen.png"));
-            return Files.readAllBytes(Paths.get("src/main/resources/screenshots", "screen.png"));
-        } catch (Exception e){
-            e.printStackTrace();
-            Assertions.fail("Не удалось сохранить файл на диск");
+        ScreenshotPolicyEngine policyEngine = ScreenshotPolicyEngine.getInstance();
+        if (!policyEngine.shouldCapture()) {
+            return new byte[0];
+        }
+        byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+        if (!policyEngine.shouldAttach(screenshot)) {
+            return new byte[0];
         }
-        return new byte[0];
+        ScreenshotPipeline.getInstance().submit("Page screenshot", screenshot);
+        return screenshot;
+    }
+
+    /**
+     * Делает скриншот браузера, арендованного текущим потоком, если такой есть.
+     *
+     * @return массив байтов, содержащий изображение скриншота, или пустой массив, если браузера нет.
+     */
+    public static byte[] getScreen() {
+        WebDriver webDriver = WebDriverInitialization.getWebDriver();
+        return webDriver != null ? getScreen(webDriver) : new byte[0];
+    }
+
+    /**
+     * Делает скриншот браузера, арендованного текущим потоком, при падении теста.
+     * Скриншот прикрепляется независимо от политики; вызывается из {@link FailureScreenshotExtension}.
+     *
+     * @return массив байтов, содержащий изображение скриншота, или пустой массив, если браузера нет.
+     */
+    public static byte[] getFailureScreen() {
+        WebDriver webDriver = WebDriverInitialization.getWebDriver();
+        return webDriver != null ? capture(webDriver, "Failure screenshot") : new byte[0];
     }
 
     /**
@@ -47,11 +65,23 @@ public class ScreenShooter {
      * @param element веб-элемент, который нужно выделить перед созданием скриншота.
      * @return массив байтов, содержащий изображение скриншота.
      */
-    @Attachment(value = "Element screenshot", type = "image/png")
     public static byte[] getScreen(WebDriver driver, WebElement element){
         Actions actions = new Actions(driver);
         actions.moveToElement(element).click().build().perform();
-        return getScreen(driver);
+        return capture(driver, "Element screenshot");
+    }
+
+    /**
+     * Снимает скриншот в память и передает его в фоновую очередь для прикрепления к отчету Allure.
+     *
+     * @param driver экземпляр WebDriver для взаимодействия с браузером.
+     * @param name имя вложения в отчете.
+     * @return массив байтов, содержащий изображение скриншота.
+     */
+    private static byte[] capture(WebDriver driver, String name) {
+        byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+        ScreenshotPipeline.getInstance().submit(name, screenshot);
+        return screenshot;
     }
 
 }
@@ -0,0 +1,131 @@
+package com.bellintegrator.service;
+
+import com.bellintegrator.properties.Properties;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс ScreenshotPipeline передает снятые в памяти скриншоты в фоновую очередь,
+ * где они записываются как вложения Allure.
+ * Скриншот сжимается и вложение регистрируется в текущем шаге Allure в потоке теста, поэтому формат
+ * вложения известен до завершения шага, а фоновые потоки только пишут файлы и не меняют модель отчета.
+ * Если скриншот не удалось сжать в JPEG, он прикладывается как PNG с исходным содержимым.
+ * Очередь ограничена: при ее переполнении запись выполняется в потоке теста, чтобы не накапливать
+ * скриншоты в памяти.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ScreenshotPipeline {
+
+    private static final ScreenshotPipeline INSTANCE = new ScreenshotPipeline();
+
+    private final ThreadPoolExecutor executor;
+    private final boolean jpeg;
+    private final float jpegQuality;
+
+    /**
+     * Конструктор класса. Создает фоновые потоки обработки по свойствам screenshots.*.
+     */
+    private ScreenshotPipeline() {
+        int threads = Math.max(1, Properties.testsProperties.screenshotsPipelineThreads());
+        int queueSize = Math.max(1, Properties.testsProperties.screenshotsPipelineQueueSize());
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), runnable -> {
+                    Thread thread = new Thread(runnable, "screenshot-pipeline");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.jpeg = "jpeg".equalsIgnoreCase(Properties.testsProperties.screenshotsFormat())
+                && ImageIO.getImageWritersByFormatName("jpeg").hasNext();
+        this.jpegQuality = Properties.testsProperties.screenshotsJpegQuality();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "screenshot-pipeline-flush"));
+    }
+
+    /**
+     * Возвращает общий конвейер скриншотов.
+     *
+     * @return экземпляр конвейера.
+     */
+    public static ScreenshotPipeline getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Сжимает скриншот, регистрирует вложение в текущем шаге Allure и ставит запись файла в очередь.
+     *
+     * @param name имя вложения в отчете.
+     * @param png  скриншот в формате PNG.
+     */
+    public void submit(String name, byte[] png) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        byte[] compressed = jpeg ? compress(png) : null;
+        String source = compressed != null
+                ? lifecycle.prepareAttachment(name, "image/jpeg", "jpg")
+                : lifecycle.prepareAttachment(name, "image/png", "png");
+        byte[] content = compressed != null ? compressed : png;
+        executor.execute(() -> lifecycle.writeAttachment(source, new ByteArrayInputStream(content)));
+    }
+
+    /**
+     * Останавливает конвейер, дождавшись записи всех скриншотов, поставленных в очередь.
+     * Вызывается при завершении JVM.
+     */
+    private void flush() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Сжимает скриншот в JPEG.
+     *
+     * @param png скриншот в формате PNG.
+     * @return скриншот в формате JPEG или null, если его не удалось прочитать или сжать.
+     */
+    private byte[] compress(byte[] png) {
+        try {
+            BufferedImage source = ImageIO.read(new ByteArrayInputStream(png));
+            if (source == null) {
+                return null;
+            }
+            BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = rgb.createGraphics();
+            graphics.drawImage(source, 0, 0, Color.WHITE, null);
+            graphics.dispose();
+
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            ByteArrayOutputStream output = new ByteArrayOutputStream(png.length / 4);
+            try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+                writer.setOutput(imageOutput);
+                writer.write(null, new IIOImage(rgb, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            return output.toByteArray();
+        } catch (IOException | RuntimeException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.bellintegrator.service;
+
+/**
+ * Политика создания скриншотов после шагов теста.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum ScreenshotPolicy {
+
+    /**
+     * Скриншот после каждого шага.
+     */
+    ALWAYS,
+
+    /**
+     * Скриншот только при падении теста, в том числе из-за исключения в шаге.
+     */
+    ON_FAILURE,
+
+    /**
+     * Скриншот после каждого N-го шага, N задается свойством screenshots.every.nth.
+     */
+    EVERY_NTH,
+
+    /**
+     * Скриншот только если страница заметно изменилась с момента последнего скриншота.
+     */
+    ON_CHANGE
+}
@@ -0,0 +1,103 @@
+package com.bellintegrator.service;
+
+import com.bellintegrator.properties.Properties;
+import java.io.IOException;
+
+/**
+ * Класс ScreenshotPolicyEngine решает, нужно ли делать и прикреплять скриншот после шага,
+ * в соответствии с политикой из свойства screenshots.policy.
+ * Счетчик шагов и хеш последнего прикрепленного скриншота хранятся отдельно для каждого потока.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ScreenshotPolicyEngine {
+
+    private static final ScreenshotPolicyEngine INSTANCE = new ScreenshotPolicyEngine(
+            ScreenshotPolicy.valueOf(Properties.testsProperties.screenshotsPolicy().trim().toUpperCase()),
+            Properties.testsProperties.screenshotsEveryNth(),
+            Properties.testsProperties.screenshotsChangeThreshold());
+
+    private final ScreenshotPolicy policy;
+    private final int everyNth;
+    private final int changeThreshold;
+    private final ThreadLocal<State> state = ThreadLocal.withInitial(State::new);
+
+    /**
+     * Конструктор класса ScreenshotPolicyEngine.
+     *
+     * @param policy          политика создания скриншотов.
+     * @param everyNth        период для политики EVERY_NTH.
+     * @param changeThreshold минимальное расстояние между хешами для политики ON_CHANGE.
+     */
+    public ScreenshotPolicyEngine(ScreenshotPolicy policy, int everyNth, int changeThreshold) {
+        this.policy = policy;
+        this.everyNth = Math.max(1, everyNth);
+        this.changeThreshold = changeThreshold;
+    }
+
+    /**
+     * Возвращает движок политики, настроенный по свойствам тестов.
+     *
+     * @return экземпляр движка.
+     */
+    public static ScreenshotPolicyEngine getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Сбрасывает состояние текущего потока. Вызывается перед каждым тестом.
+     */
+    public void reset() {
+        state.remove();
+    }
+
+    /**
+     * Решает, нужно ли снимать скриншот после очередного шага.
+     *
+     * @return true, если скриншот нужно снять.
+     */
+    public boolean shouldCapture() {
+        switch (policy) {
+            case ON_FAILURE:
+                return false;
+            case EVERY_NTH:
+                return state.get().steps++ % everyNth == 0;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Решает, нужно ли прикреплять снятый скриншот к отчету.
+     * Для политики ON_CHANGE скриншот пропускается, если он почти не отличается от последнего прикрепленного.
+     *
+     * @param screenshot снятый скриншот.
+     * @return true, если скриншот нужно прикрепить.
+     */
+    public boolean shouldAttach(byte[] screenshot) {
+        if (policy != ScreenshotPolicy.ON_CHANGE) {
+            return true;
+        }
+        State current = state.get();
+        long hash;
+        try {
+            hash = PerceptualHash.differenceHash(screenshot);
+        } catch (IOException e) {
+            return true;
+        }
+        if (current.lastHash != null && PerceptualHash.distance(current.lastHash, hash) < changeThreshold) {
+            return false;
+        }
+        current.lastHash = hash;
+        return true;
+    }
+
+    /**
+     * Состояние политики для одного потока.
+     */
+    private static class State {
+        private long steps;
+        private Long lastHash;
+    }
+}
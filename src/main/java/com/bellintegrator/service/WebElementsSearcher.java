@@ -1,6 +1,7 @@
 package com.bellintegrator.service;
 
-import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
@@ -15,6 +16,11 @@ import java.util.*;
  */
 public class WebElementsSearcher {
 
+    private static final String IS_PRESENT_SCRIPT =
+            "if (arguments[0]) { return document.querySelector(arguments[0]) !== null; }" +
+            "return document.evaluate(arguments[1], document, null," +
+            "    XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue !== null;";
+
     /**
      * Возвращает список видимых веб-элементов, найденных по заданному XPath выражению.
      *
@@ -23,7 +29,7 @@ public class WebElementsSearcher {
      * @return список видимых веб-элементов, или null, если элементы не найдены
      */
     public static List<WebElement> getVisibleWebElements(WebDriverWait wait, String xpathExpression) {
-        List<WebElement> webElements = wait.until(ExpectedConditions.visibilityOfAllElementsLocatedBy(By.xpath(xpathExpression)));
+        List<WebElement> webElements = wait.until(ExpectedConditions.visibilityOfAllElementsLocatedBy(Locators.xpath(xpathExpression)));
         if (webElements != null && !webElements.isEmpty()) {
             return webElements;
         } else {
@@ -32,4 +38,17 @@ public class WebElementsSearcher {
         }
     }
 
+    /**
+     * Проверяет, есть ли на странице элемент, найденный по заданному XPath выражению, не ожидая его появления.
+     * Проверка выполняется одним вызовом JavaScript и не тратит неявное ожидание WebDriver.
+     *
+     * @param webDriver экземпляр WebDriver для взаимодействия с браузером
+     * @param xpathExpression XPath выражение для поиска элемента
+     * @return true, если элемент есть в документе
+     */
+    public static boolean isPresent(WebDriver webDriver, String xpathExpression) {
+        CompiledLocator locator = Locators.compile(xpathExpression);
+        return Boolean.TRUE.equals(((JavascriptExecutor) webDriver)
+                .executeScript(IS_PRESENT_SCRIPT, locator.getCss(), locator.getXpath()));
+    }
 }
@@ -1,10 +1,19 @@
 package com.bellintegrator.steps;
 
+import com.bellintegrator.checkpoint.CheckpointStore;
 import com.bellintegrator.pages.ozon.*;
+import com.bellintegrator.properties.Properties;
 import com.bellintegrator.service.*;
+import com.bellintegrator.verification.*;
+import com.bellintegrator.webdriver.WebDriverInitialization;
+import io.qameta.allure.Allure;
 import io.qameta.allure.Step;
 import org.openqa.selenium.*;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Класс StepAssert содержит методы для выполнения проверок на страницах интернет-магазина Ozon.
@@ -17,6 +26,13 @@ public class StepAssert {
 
     private WebDriver webDriver;
 
+    /**
+     * Конструктор класса StepAssert, использующий WebDriver, арендованный текущим потоком.
+     */
+    public StepAssert() {
+        this(WebDriverInitialization.getWebDriver());
+    }
+
     /**
      * Конструктор класса StepAssert.
      *
@@ -37,22 +53,51 @@ public class StepAssert {
         Assertions.assertTrue(isContains, "Страница неверная.");
     }
 
+    /**
+     * Проверяет, что количество товаров, загруженных прокруткой выдачи, больше заданного значения.
+     *
+     * @param loadedItems   количество карточек, загруженных {@link Steps#scrollUntilItems(String)}.
+     * @param quantityItems минимальное количество товаров.
+     */
+    @Step("Проверка количества загруженных товаров ({loadedItems}), должно быть больше {quantityItems}")
+    public void assertItemsQuantity(int loadedItems, String quantityItems) {
+        Assertions.assertTrue(loadedItems > Integer.parseInt(quantityItems), "Результатов меньше " + quantityItems);
+    }
+
     /**
      * Проверяет, что количество найденных товаров больше заданного значения.
+     * Карточки считаются по всем страницам выдачи, но следующая страница открывается,
+     * только если на уже просмотренных товаров недостаточно.
      *
      * @param ozonCatalogPage страница каталога Ozon.
      * @param quantityItems минимальное количество товаров.
      */
     @Step("Проверка количества найденных товаров, должно быть больше {quantityItems}")
     public void assertItemsQuantity(OzonCatalogPage ozonCatalogPage, String quantityItems) {
-        List<WebElement> items = ozonCatalogPage.getFoundItems();
-        boolean isMore = items.size() > Integer.parseInt(quantityItems);
+        int quantity = Integer.parseInt(quantityItems);
+        long found;
+        try (Stream<CatalogCard> cards = ozonCatalogPage.streamCards(0)) {
+            found = cards.limit(quantity + 1L).count();
+        }
+        boolean isMore = found > quantity;
         Assertions.assertTrue(isMore, "Результатов меньше " + quantityItems);
     }
 
     /**
      * Проверяет соответствие найденных товаров заданным условиям.
      * Диапазон цен и бренды.
+     * По умолчанию (verify.items.mode=full) открывается страница каждого найденного товара.
+     * При verify.items.mode=tiles товары проверяются по карточкам выдачи, а страницы открываются
+     * только для выборки и сомнительных карточек. При verify.items.parallelism больше 1 страницы товаров
+     * проверяются параллельно в нескольких сессиях, а результаты объединяются в один отчет.
+     * Проверяются карточки первых verify.items.pages страниц выдачи (0 - всей категории).
+     * При последовательной проверке страниц товаров карточки читаются потоком: в памяти остается
+     * одна страница выдачи, а следующая открывается только после проверки товаров текущей.
+     * При verify.items.fetch=http страницы товаров загружаются по HTTP с cookies сессии,
+     * а в браузере открываются только страницы, данные которых не удалось извлечь из HTML.
+     * Последовательная проверка сдвигает курсор контрольной точки после каждого товара, поэтому повтор
+     * упавшего теста пропускает товары, проверенные до падения. Попадания и промахи кэша страниц товаров
+     * прикрепляются к отчету во всех режимах.
      *
      * @param ozonCatalogPage страница каталога Ozon.
      * @param minPriceInput минимальная цена.
@@ -64,32 +109,51 @@ public class StepAssert {
             " диапазон цен от {minPriceInput} до {maxPriceInput}, бренды {brandOne} и {brandTwo}")
     public void verifyItems(OzonCatalogPage ozonCatalogPage, String minPriceInput, String maxPriceInput,
                             String brandOne, String brandTwo) {
-        List<WebElement> items = ozonCatalogPage.getFoundItems();
-        for (WebElement item : items) {
-            String originWindow = webDriver.getWindowHandle();
-            String newTab = openNewItemWindow(item);
-            webDriver.switchTo().window(newTab);
-
-            OzonItemPage ozonItemPage = new OzonItemPage(webDriver);
-            WebElement checkedPrice = ozonItemPage.isPriceWithOzonCardExist() ? ozonItemPage.getPriceWithOzonCard()
-                    : ozonItemPage.getPrice(); // в случае отсутсвия цены по карте
-            String itemPrice = checkedPrice.getText().replaceAll("[\\u00A0₽]", "")
-                    .replaceAll("[\\s\\u00A0\\u2009]", "");
-            int itemPriceInt = Integer.parseInt(itemPrice);
-            int minPriceInputInt = Integer.parseInt(minPriceInput);
-            int maxPriceInputInt = Integer.parseInt(maxPriceInput);
-
-            Assertions.assertTrue(itemPriceInt >= minPriceInputInt, "Цена меньше " + minPriceInputInt);
-            Assertions.assertTrue(itemPriceInt <= maxPriceInputInt, "Цена больше " + maxPriceInputInt);
-
-            String nameItem = ozonItemPage.getNameItem().getText();
-            boolean isNameContainsProducer = nameItem.contains(brandOne) || nameItem.contains(brandTwo);
-            Assertions.assertTrue(isNameContainsProducer,
-                    "Название не содержит производителя " + brandOne + " or " + brandTwo);
-
-            webDriver.close();
-            webDriver.switchTo().window(originWindow);
+        ItemCriteria criteria = new ItemCriteria(minPriceInput, maxPriceInput, brandOne, brandTwo);
+        int parallelism = Properties.testsProperties.verifyItemsParallelism();
+        int maxPages = Properties.testsProperties.verifyItemsPages();
+        boolean tiles = "tiles".equalsIgnoreCase(Properties.testsProperties.verifyItemsMode());
+        HttpItemFetcher httpFetcher = "http".equalsIgnoreCase(Properties.testsProperties.verifyItemsFetch())
+                ? HttpItemFetcher.fromSession(webDriver,
+                        Duration.ofSeconds(Properties.testsProperties.verifyItemsFetchTimeout()),
+                        Properties.testsProperties.verifyItemsFetchConcurrency())
+                : null;
+        if (!tiles && parallelism <= 1) {
+            CheckpointStore checkpoints = CheckpointStore.getInstance();
+            int alreadyVerified = checkpoints.verifiedItems();
+            AtomicInteger verified = new AtomicInteger(alreadyVerified);
+            ItemFactsCache cache = ItemFactsCache.getInstance();
+            long hitsBefore = cache.getHits();
+            long missesBefore = cache.getMisses();
+            try (Stream<CatalogCard> cards = ozonCatalogPage.streamCards(maxPages)) {
+                cards.skip(alreadyVerified).forEach(card -> {
+                    verifyItemPage(card.getHref(), criteria, brandOne, brandTwo, httpFetcher);
+                    checkpoints.advanceVerifiedItems(verified.incrementAndGet());
+                });
+            } finally {
+                Allure.addAttachment("Кэш страниц товаров", "text/plain",
+                        "Кэш страниц товаров: попаданий " + (cache.getHits() - hitsBefore)
+                                + ", промахов " + (cache.getMisses() - missesBefore), ".txt");
+            }
+            return;
         }
+        List<CatalogCard> cards;
+        try (Stream<CatalogCard> stream = ozonCatalogPage.streamCards(maxPages)) {
+            cards = stream.collect(Collectors.toList());
+        }
+        if (tiles) {
+            int sampleSize = TieredItemsVerifier.sampleSize(Properties.testsProperties.verifyItemsSampleConfidence(),
+                    Properties.testsProperties.verifyItemsSampleDefectRate());
+            assertReport(new TieredItemsVerifier(webDriver, parallelism, sampleSize,
+                    Properties.testsProperties.verifyItemsBoundaryMargin(),
+                    Properties.testsProperties.verifyItemsSampleSeed(), httpFetcher).verify(cards, criteria));
+            return;
+        }
+        List<String> itemUrls = new ArrayList<>();
+        for (CatalogCard card : cards) {
+            itemUrls.add(card.getHref());
+        }
+        assertReport(new ConcurrentItemsVerifier(webDriver, parallelism, httpFetcher).verify(itemUrls, criteria));
     }
 
     /**
@@ -100,21 +164,69 @@ public class StepAssert {
      */
     @Step("Проверка, что продукт найден: {firstNameItem}")
     public void assertItemFound(OzonCatalogPage ozonCatalogPage, String firstNameItem) {
-        List<String> nameItems = ozonCatalogPage.getFoundNameItems(ozonCatalogPage.getFoundItems());
+        List<String> nameItems = ozonCatalogPage.getFoundNameItems();
         boolean isNameExists = nameItems.stream().anyMatch(nameItem -> nameItem.equalsIgnoreCase(firstNameItem));
         Assertions.assertTrue(isNameExists, "Продукт не найден " + firstNameItem);
         ScreenShooter.getScreen(webDriver);
     }
 
+    /**
+     * Прикрепляет отчет о проверке товаров к отчету Allure и проверяет, что нарушений нет.
+     *
+     * @param report отчет о проверке товаров.
+     */
+    private void assertReport(ItemsVerificationReport report) {
+        report.attach();
+        Assertions.assertTrue(report.isPassed(), report.getSummary());
+    }
+
+    /**
+     * Проверяет товар по данным из кэша или по странице, загруженной по HTTP, а если это не удалось - в новой вкладке браузера,
+     * после чего возвращается на вкладку каталога. Первое нарушение прерывает проверку.
+     *
+     * @param itemUrl     ссылка на товар.
+     * @param criteria    условия, которым должен соответствовать товар.
+     * @param brandOne    первый бренд.
+     * @param brandTwo    второй бренд.
+     * @param httpFetcher загрузчик страниц товаров по HTTP или null.
+     */
+    private void verifyItemPage(String itemUrl, ItemCriteria criteria, String brandOne, String brandTwo,
+                                HttpItemFetcher httpFetcher) {
+        ItemFactsCache cache = ItemFactsCache.getInstance();
+        ItemFacts itemFacts = cache.get(itemUrl);
+        if (itemFacts == null && httpFetcher != null) {
+            itemFacts = httpFetcher.fetch(itemUrl);
+        }
+        String originWindow = null;
+        if (itemFacts == null) {
+            originWindow = webDriver.getWindowHandle();
+            webDriver.switchTo().window(openNewItemWindow(itemUrl));
+            itemFacts = ItemPageReader.read(webDriver, itemUrl);
+        }
+        cache.put(itemFacts);
+        Assertions.assertTrue(itemFacts.getCheckedPrice() != null, "Нет цены, товар отсутствует в продаже");
+        long itemPriceMinor = PriceParser.parseMinor(itemFacts.getCheckedPrice());
+
+        Assertions.assertTrue(itemPriceMinor >= criteria.getMinPrice() * 100L, "Цена меньше " + criteria.getMinPrice());
+        Assertions.assertTrue(itemPriceMinor <= criteria.getMaxPrice() * 100L, "Цена больше " + criteria.getMaxPrice());
+
+        Assertions.assertTrue(criteria.isBrandMatched(itemFacts.getTitle()),
+                "Название не содержит производителя " + brandOne + " or " + brandTwo);
+
+        if (originWindow != null) {
+            webDriver.close();
+            webDriver.switchTo().window(originWindow);
+        }
+    }
+
     /**
      * Открывает новую вкладку с товаром и возвращает дескриптор новой вкладки.
      *
-     * @param item элемент, содержащий ссылку на товар.
+     * @param itemLink ссылка на товар.
      * @return дескриптор новой вкладки.
      */
-    private String openNewItemWindow(WebElement item) {
+    private String openNewItemWindow(String itemLink) {
         Set<String> existingWindows = webDriver.getWindowHandles();
-        String itemLink = item.getAttribute("href");
         ((JavascriptExecutor) webDriver).executeScript("window.open(arguments[0]);", itemLink);
         Set<String> newWindows = webDriver.getWindowHandles();
         newWindows.removeAll(existingWindows);
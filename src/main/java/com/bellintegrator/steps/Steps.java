@@ -1,19 +1,34 @@
 package com.bellintegrator.steps;
 
+import com.bellintegrator.checkpoint.CheckpointStore;
+import com.bellintegrator.checkpoint.JourneyCheckpoint;
+import com.bellintegrator.checkpoint.JourneyStage;
 import com.bellintegrator.service.ScreenShooter;
+import io.qameta.allure.Allure;
 import io.qameta.allure.Step;
+import com.bellintegrator.pages.ozon.CatalogFilter;
 import com.bellintegrator.pages.ozon.OzonCatalogPage;
 import com.bellintegrator.pages.ozon.OzonStartPage;
+import com.bellintegrator.pages.ozon.ScrollLoader;
+import com.bellintegrator.properties.Properties;
+import com.bellintegrator.readiness.WidgetReadiness;
+import com.bellintegrator.webdriver.SessionSnapshotStore;
+import com.bellintegrator.webdriver.WebDriverInitialization;
 import org.openqa.selenium.Keys;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.BooleanSupplier;
 
 /**
  * Класс Steps содержит шаги для взаимодействия с веб-страницами Ozon.
+ * Шаги пути до каталога и применение фильтров записывают контрольные точки, а при повторе упавшего теста,
+ * продолженного с контрольной точки, шаги до нее пропускаются.
  *
  * @version 1.0
  * @since 2024-06-21
@@ -23,6 +38,20 @@ public class Steps {
 
     private WebDriver webDriver;
 
+    /**
+     * Сессия начата с восстановленного снимка состояния, поэтому предупреждения могут не появиться.
+     */
+    private boolean warmStarted;
+
+    private final CheckpointStore checkpoints = CheckpointStore.getInstance();
+
+    /**
+     * Конструктор класса Steps, использующий WebDriver, арендованный текущим потоком.
+     */
+    public Steps() {
+        this(WebDriverInitialization.getWebDriver());
+    }
+
     /**
      * Конструктор класса Steps.
      *
@@ -34,48 +63,113 @@ public class Steps {
 
 
     /**
-     * Ищет и проверяет наличие товара на странице каталога Ozon.
+     * Открывает страницу и ожидает виджеты, объявленные ее классом через RequiredWidgets,
+     * или промежуточный экран страницы.
+     * Если сохранен годный снимок состояния сессии, он восстанавливается перед переходом.
+     * Повтор упавшего теста вместо стартовой страницы открывает страницу его контрольной точки.
      *
      * @param webDriver экземпляр WebDriver для взаимодействия с браузером.
      * @param startURL  ссылка веб-страницы.
+     * @param pageClass класс открываемой страницы.
      */
     @Step("Открытие новой страницы: {startURL}")
-    public void openPage(WebDriver webDriver, String startURL) {
-        webDriver.get(startURL);
+    public void openPage(WebDriver webDriver, String startURL, Class<?> pageClass) {
+        warmStarted = SessionSnapshotStore.getInstance().restore(webDriver, startURL);
+        if (resumeFromCheckpoint(webDriver)) {
+            return;
+        }
+        WidgetReadiness.open(webDriver, startURL, pageClass);
+        ScreenShooter.getScreen(webDriver);
+    }
+
+    /**
+     * Открывает отфильтрованную выдачу каталога одним переходом по адресу фильтра,
+     * минуя стартовую страницу, меню каталога и панель фильтров. Путь через меню остается
+     * для тестов, которые проверяют сами меню и фильтры.
+     * Если сохранен годный снимок состояния сессии, он восстанавливается перед переходом.
+     *
+     * @param webDriver экземпляр WebDriver для взаимодействия с браузером.
+     * @param baseUrl   адрес сайта.
+     * @param filter    категория, диапазон цен и бренды выдачи.
+     */
+    @Step("Открытие выдачи каталога: {filter}")
+    public void openFilteredCatalog(WebDriver webDriver, String baseUrl, CatalogFilter filter) {
+        String catalogUrl = filter.toUrl(baseUrl);
+        warmStarted = SessionSnapshotStore.getInstance().restore(webDriver, catalogUrl);
+        WidgetReadiness.open(webDriver, catalogUrl, OzonCatalogPage.class);
+        Map<String, String> applied = new LinkedHashMap<>();
+        applied.put("minPrice", String.valueOf(filter.getMinPrice()));
+        applied.put("maxPrice", String.valueOf(filter.getMaxPrice()));
+        applied.put("brands", String.join(", ", filter.getBrandIds()));
+        checkpoints.record(JourneyStage.BRANDS, webDriver.getCurrentUrl(), applied);
         ScreenShooter.getScreen(webDriver);
     }
 
     /**
-     * Нажимает кнопку обновления на стартовой странице Ozon.
+     * Нажимает кнопку обновления на стартовой странице Ozon и ожидает виджеты стартовой страницы.
+     * В сессии, начатой со снимка состояния, шаг пропускается, если кнопки нет и стартовая страница готова.
      *
      * @param ozonStartPage экземпляр страницы OzonStartPage.
      */
     @Step("Нажимаем кнопку обновить")
     public void clickRefreshButton(OzonStartPage ozonStartPage) {
+        if (checkpoints.isPassed(JourneyStage.CATALOG)) {
+            return;
+        }
+        if (warmStarted && !isStartPageShowing(ozonStartPage, ozonStartPage::isRefreshButtonPresent)) {
+            return;
+        }
         ozonStartPage.getRefreshButton().click();
+        WidgetReadiness.await(webDriver, OzonStartPage.class);
         ScreenShooter.getScreen(webDriver);
     }
 
     /**
      * Закрываем предупреждение о cookies.
+     * В сессии, начатой со снимка состояния, шаг пропускается, если после готовности стартовой страницы
+     * предупреждения нет.
      *
      */
     @Step("Закрываем предупреждение о cookie")
     public void closeCookie(OzonStartPage ozonStartPage, String coockieNameButton) {
+        if (checkpoints.isPassed(JourneyStage.CATALOG)) {
+            return;
+        }
+        if (warmStarted
+                && !isStartPageShowing(ozonStartPage, () -> ozonStartPage.isCookieWarningPresent(coockieNameButton))) {
+            return;
+        }
         ozonStartPage.closeCookie(coockieNameButton);
         ScreenShooter.getScreen(webDriver);
     }
 
     /**
      * Закрываем предложение о смене локации.
+     * В сессии, начатой со снимка состояния, шаг пропускается, если после готовности стартовой страницы
+     * предложения нет.
      *
      */
     @Step("Закрываем предложение о смене локации")
     public void skipLocationAccept(OzonStartPage ozonStartPage) {
+        if (checkpoints.isPassed(JourneyStage.CATALOG)) {
+            return;
+        }
+        if (warmStarted && !isStartPageShowing(ozonStartPage, ozonStartPage::isLocationWarningPresent)) {
+            return;
+        }
         ozonStartPage.skipLocationAccept();
         ScreenShooter.getScreen(webDriver);
     }
 
+    /**
+     * Сохраняет снимок состояния сессии (cookies и storage) после закрытия предупреждений,
+     * если годного снимка еще нет. Следующие сессии начнутся с этого состояния.
+     */
+    @Step("Сохраняем состояние сессии")
+    public void saveSessionSnapshot() {
+        SessionSnapshotStore.getInstance().saveIfStale(webDriver);
+    }
+
     /**
      * Нажимает кнопку каталога на стартовой странице Ozon.
      *
@@ -83,6 +177,9 @@ public class Steps {
      */
     @Step("Нажимаем кнопку каталог")
     public void clickCatalogButton(OzonStartPage ozonStartPage) {
+        if (checkpoints.isPassed(JourneyStage.CATALOG)) {
+            return;
+        }
         ozonStartPage.getCatalogButton().click();
         ScreenShooter.getScreen(webDriver);
     }
@@ -94,6 +191,9 @@ public class Steps {
      */
     @Step("Навигация к меню {menu}")
     public void navigateToMenu(OzonStartPage ozonStartPage, String menuName) {
+        if (checkpoints.isPassed(JourneyStage.CATALOG)) {
+            return;
+        }
         Actions actions = new Actions(webDriver);
         actions.moveToElement(ozonStartPage.getMenu(menuName)).perform();
         ScreenShooter.getScreen(webDriver);
@@ -106,6 +206,9 @@ public class Steps {
      */
     @Step("Навигация к подменю {innerMenu}")
     public void navigateToInnerMenu(OzonStartPage ozonStartPage, String innerMenu) {
+        if (checkpoints.isPassed(JourneyStage.CATALOG)) {
+            return;
+        }
         ozonStartPage.getInnerMenu(innerMenu).click();
         ScreenShooter.getScreen(webDriver);
     }
@@ -115,6 +218,9 @@ public class Steps {
      */
     @Step("Переключаемся на новое окно")
     public void switchToNewWindow() {
+        if (checkpoints.isPassed(JourneyStage.CATALOG)) {
+            return;
+        }
         String originalWindow = webDriver.getWindowHandle();
         Set<String> allWindows = webDriver.getWindowHandles();
         for (String windowHandle : allWindows) {
@@ -124,6 +230,7 @@ public class Steps {
                 break;
             }
         }
+        checkpoints.record(JourneyStage.CATALOG, webDriver.getCurrentUrl());
         ScreenShooter.getScreen(webDriver);
     }
 
@@ -137,8 +244,15 @@ public class Steps {
      */
     @Step("Установка диапазона цен: от {minPriceInput} до {maxPriceInput}")
     public void setPriceRange(OzonCatalogPage ozonCatalogPage, String minPriceInput, String maxPriceInput) {
+        if (checkpoints.isPassed(JourneyStage.PRICE_RANGE)) {
+            return;
+        }
         ozonCatalogPage.setMinPrice(minPriceInput);
         ozonCatalogPage.setMaxPrice(maxPriceInput);
+        Map<String, String> applied = new LinkedHashMap<>();
+        applied.put("minPrice", minPriceInput);
+        applied.put("maxPrice", maxPriceInput);
+        checkpoints.record(JourneyStage.PRICE_RANGE, webDriver.getCurrentUrl(), applied);
         ScreenShooter.getScreen(webDriver);
     }
 
@@ -152,9 +266,15 @@ public class Steps {
      */
     @Step("Выбор брендов: {brandOne} и {brandTwo}")
     public void selectBrands(OzonCatalogPage ozonCatalogPage, String brandOne, String brandTwo) {
+        if (checkpoints.isPassed(JourneyStage.BRANDS)) {
+            return;
+        }
         ozonCatalogPage.getShowAllBrandNamesButton().click();
         ozonCatalogPage.selectBrand(brandOne);
         ozonCatalogPage.selectBrand(brandTwo);
+        Map<String, String> applied = new LinkedHashMap<>();
+        applied.put("brands", brandOne + ", " + brandTwo);
+        checkpoints.record(JourneyStage.BRANDS, webDriver.getCurrentUrl(), applied);
         ScreenShooter.getScreen(webDriver);
     }
 
@@ -168,6 +288,24 @@ public class Steps {
         ScreenShooter.getScreen(webDriver);
     }
 
+    /**
+     * Прокручивает выдачу каталога, пока не загрузится больше заданного количества товаров
+     * или не закончится выдача. Каждый цикл возвращает только новые карточки, поэтому загруженная
+     * часть выдачи не сканируется повторно. Количество загруженных карточек проверяется
+     * через {@link StepAssert#assertItemsQuantity(int, String)} без повторного сканирования выдачи.
+     *
+     * @param quantityItems количество товаров, которое нужно превысить.
+     * @return количество загруженных карточек без повторов.
+     */
+    @Step("Прокрутка выдачи до {quantityItems} товаров")
+    public int scrollUntilItems(String quantityItems) {
+        ScrollLoader scrollLoader = new ScrollLoader(webDriver, Properties.testsProperties.catalogScrollWaitMillis());
+        int loaded = scrollLoader.loadUntil(Integer.parseInt(quantityItems) + 1,
+                Properties.testsProperties.catalogScrollMaxCycles());
+        ScreenShooter.getScreen(webDriver);
+        return loaded;
+    }
+
     /**
      * Ищет и проверяет наличие товара на странице каталога Ozon.
      *
@@ -181,4 +319,44 @@ public class Steps {
         ScreenShooter.getScreen(webDriver);
     }
 
+    /**
+     * Проверяет, показан ли элемент стартовой страницы в сессии, начатой со снимка состояния.
+     * Переход со стратегией eager завершается до отрисовки страницы, поэтому проверка выполняется
+     * после появления виджетов стартовой страницы, если на ней нет промежуточного экрана.
+     *
+     * @param ozonStartPage экземпляр страницы OzonStartPage.
+     * @param probe         проверка наличия элемента без ожидания.
+     * @return true, если элемент показан.
+     */
+    private boolean isStartPageShowing(OzonStartPage ozonStartPage, BooleanSupplier probe) {
+        if (!ozonStartPage.isRefreshButtonPresent()) {
+            WidgetReadiness.await(webDriver, OzonStartPage.class);
+        }
+        return probe.getAsBoolean();
+    }
+
+    /**
+     * Открывает страницу контрольной точки, если текущая попытка теста повторяет упавшую.
+     * Если страница точки не дождалась виджетов каталога, точка отбрасывается и тест проходит путь с начала.
+     *
+     * @param webDriver экземпляр WebDriver для взаимодействия с браузером.
+     * @return true, если попытка продолжена с контрольной точки.
+     */
+    private boolean resumeFromCheckpoint(WebDriver webDriver) {
+        JourneyCheckpoint checkpoint = checkpoints.resumePoint();
+        if (checkpoint == null) {
+            return false;
+        }
+        try {
+            WidgetReadiness.open(webDriver, checkpoint.getUrl(), OzonCatalogPage.class);
+        } catch (RuntimeException e) {
+            checkpoints.discardResumePoint();
+            return false;
+        }
+        checkpoints.markResumed();
+        Allure.addAttachment("Продолжение с контрольной точки", "text/plain", checkpoint.describe(), ".txt");
+        ScreenShooter.getScreen(webDriver);
+        return true;
+    }
+
 }
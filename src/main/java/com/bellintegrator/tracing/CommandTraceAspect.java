@@ -0,0 +1,37 @@
+package com.bellintegrator.tracing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.DeclarePrecedence;
+
+/**
+ * Аспект, открывающий в {@link CommandTracer} область для каждого метода проекта,
+ * помеченного {@link io.qameta.allure.Step}. Аспект Allure выполняется снаружи,
+ * поэтому разбивка команд прикладывается к еще открытому шагу отчета.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Aspect
+@DeclarePrecedence("io.qameta.allure.aspects.StepsAspects, com.bellintegrator.tracing.CommandTraceAspect")
+public class CommandTraceAspect {
+
+    /**
+     * Выполняет шаг внутри области трассировки команд.
+     *
+     * @param joinPoint выполняемый шаг.
+     * @return результат шага.
+     * @throws Throwable исключение, выброшенное шагом.
+     */
+    @Around("execution(@io.qameta.allure.Step * com.bellintegrator..*(..))")
+    public Object traceStep(ProceedingJoinPoint joinPoint) throws Throwable {
+        CommandTracer.enterStep(joinPoint.getSignature().getDeclaringType().getSimpleName() + "." +
+                joinPoint.getSignature().getName());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            CommandTracer.exitStep();
+        }
+    }
+}
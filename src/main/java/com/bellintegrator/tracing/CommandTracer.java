@@ -0,0 +1,88 @@
+package com.bellintegrator.tracing;
+
+import com.bellintegrator.properties.Properties;
+import io.qameta.allure.Allure;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Класс CommandTracer относит команды WebDriver к шагу Allure, выполняемому в текущем потоке.
+ * По завершении шага верхнего уровня к нему прикладывается разбивка команд по вложенным шагам,
+ * а шаги, в которых команды повторяются для каждого элемента найденного списка, помечаются как N+1.
+ * Команды вне шагов не учитываются.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class CommandTracer {
+
+    private static final ThreadLocal<Deque<StepTrace>> STEPS = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * Открывает шаг в текущем потоке.
+     *
+     * @param step имя шага в виде Класс.метод.
+     */
+    public static void enterStep(String step) {
+        STEPS.get().push(new StepTrace(step));
+    }
+
+    /**
+     * Закрывает текущий шаг. Если шаг был верхнего уровня и отправлял команды,
+     * разбивка прикладывается к нему в отчете Allure.
+     */
+    public static void exitStep() {
+        Deque<StepTrace> steps = STEPS.get();
+        StepTrace trace = steps.poll();
+        if (trace == null) {
+            return;
+        }
+        StepTrace parent = steps.peek();
+        if (parent != null) {
+            if (trace.getTotalCount() > 0) {
+                parent.addChild(trace);
+            }
+        } else if (trace.getTotalCount() > 0) {
+            attach(trace);
+        }
+    }
+
+    /**
+     * Учитывает команду WebDriver в текущем шаге.
+     *
+     * @param command       имя команды.
+     * @param elementScoped true, если команда выполняется над конкретным элементом.
+     * @param nanos         длительность команды в наносекундах.
+     * @param listSize      размер возвращенного списка или -1.
+     */
+    static void record(String command, boolean elementScoped, long nanos, int listSize) {
+        StepTrace trace = STEPS.get().peek();
+        if (trace != null) {
+            trace.record(command, elementScoped, nanos, listSize);
+        }
+    }
+
+    /**
+     * Прикладывает разбивку команд к текущему шагу Allure.
+     */
+    private static void attach(StepTrace trace) {
+        int minListSize = Properties.testsProperties.traceNPlusOneMinSize();
+        String name = hasNPlusOne(trace, minListSize) ? "Команды WebDriver (N+1)" : "Команды WebDriver";
+        Allure.addAttachment(name, "text/plain", trace.describe(minListSize), ".txt");
+    }
+
+    private static boolean hasNPlusOne(StepTrace trace, int minListSize) {
+        List<StepTrace> pending = new ArrayList<>();
+        pending.add(trace);
+        while (!pending.isEmpty()) {
+            StepTrace current = pending.remove(pending.size() - 1);
+            if (!current.findNPlusOne(minListSize).isEmpty()) {
+                return true;
+            }
+            pending.addAll(current.getChildren());
+        }
+        return false;
+    }
+}
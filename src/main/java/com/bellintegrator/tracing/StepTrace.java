@@ -0,0 +1,137 @@
+package com.bellintegrator.tracing;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Команды WebDriver, отправленные во время одного шага Allure, без учета вложенных шагов.
+ * Вложенные шаги хранятся отдельно в {@link #getChildren()}.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class StepTrace {
+
+    private final String step;
+    private final Map<String, CommandStats> commands = new LinkedHashMap<>();
+    private final List<StepTrace> children = new ArrayList<>();
+    private int maxListSize;
+
+    /**
+     * Конструктор класса StepTrace.
+     *
+     * @param step имя шага в виде Класс.метод.
+     */
+    public StepTrace(String step) {
+        this.step = step;
+    }
+
+    /**
+     * Учитывает команду WebDriver.
+     *
+     * @param command       имя команды.
+     * @param elementScoped true, если команда выполняется над конкретным элементом.
+     * @param nanos         длительность команды в наносекундах.
+     * @param listSize      размер возвращенного списка или -1, если команда вернула не список.
+     */
+    void record(String command, boolean elementScoped, long nanos, int listSize) {
+        CommandStats stats = commands.computeIfAbsent(command, name -> new CommandStats(elementScoped));
+        stats.count++;
+        stats.nanos += nanos;
+        maxListSize = Math.max(maxListSize, listSize);
+    }
+
+    void addChild(StepTrace child) {
+        children.add(child);
+    }
+
+    public String getStep() {
+        return step;
+    }
+
+    public List<StepTrace> getChildren() {
+        return children;
+    }
+
+    /**
+     * Возвращает количество команд шага вместе с вложенными шагами.
+     *
+     * @return количество команд.
+     */
+    public int getTotalCount() {
+        int total = 0;
+        for (CommandStats stats : commands.values()) {
+            total += stats.count;
+        }
+        for (StepTrace child : children) {
+            total += child.getTotalCount();
+        }
+        return total;
+    }
+
+    /**
+     * Находит команды элементов, количество которых растет вместе с размером найденного списка:
+     * команда выполнена не меньше раз, чем элементов в самом большом списке шага.
+     *
+     * @param minListSize минимальный размер списка, начиная с которого повторения считаются N+1.
+     * @return описания подозрительных команд.
+     */
+    public List<String> findNPlusOne(int minListSize) {
+        List<String> suspects = new ArrayList<>();
+        if (maxListSize < minListSize) {
+            return suspects;
+        }
+        for (Map.Entry<String, CommandStats> entry : commands.entrySet()) {
+            if (entry.getValue().elementScoped && entry.getValue().count >= maxListSize) {
+                suspects.add(entry.getKey() + " x" + entry.getValue().count +
+                        " при списке из " + maxListSize + " элементов");
+            }
+        }
+        return suspects;
+    }
+
+    /**
+     * Формирует текстовую разбивку команд шага и вложенных шагов.
+     *
+     * @param minListSize минимальный размер списка для поиска N+1.
+     * @return текст разбивки.
+     */
+    public String describe(int minListSize) {
+        StringBuilder text = new StringBuilder();
+        describe(text, "", minListSize);
+        return text.toString();
+    }
+
+    private void describe(StringBuilder text, String indent, int minListSize) {
+        text.append(indent).append(step).append(": ").append(getTotalCount()).append(" команд\n");
+        for (Map.Entry<String, CommandStats> entry : commands.entrySet()) {
+            CommandStats stats = entry.getValue();
+            text.append(indent).append("  ").append(entry.getKey()).append(" x").append(stats.count)
+                    .append(String.format(Locale.ROOT, ", %.1f мс", stats.nanos / (double) TimeUnit.MILLISECONDS.toNanos(1)))
+                    .append('\n');
+        }
+        for (String suspect : findNPlusOne(minListSize)) {
+            text.append(indent).append("  N+1: ").append(suspect).append('\n');
+        }
+        for (StepTrace child : children) {
+            child.describe(text, indent + "  ", minListSize);
+        }
+    }
+
+    /**
+     * Количество и суммарная длительность команды.
+     */
+    private static class CommandStats {
+        private final boolean elementScoped;
+        private int count;
+        private long nanos;
+
+        CommandStats(boolean elementScoped) {
+            this.elementScoped = elementScoped;
+        }
+    }
+}
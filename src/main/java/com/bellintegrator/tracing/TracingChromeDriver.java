@@ -0,0 +1,48 @@
+package com.bellintegrator.tracing;
+
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.remote.Response;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * ChromeDriver, передающий каждую команду WebDriver, ее длительность и размер возвращенного списка
+ * в {@link CommandTracer}. Команды элементов тоже проходят через этот метод, так как
+ * RemoteWebElement выполняет их через породивший его драйвер.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class TracingChromeDriver extends ChromeDriver {
+
+    /**
+     * Конструктор класса TracingChromeDriver.
+     */
+    public TracingChromeDriver() {
+        super();
+    }
+
+    /**
+     * Конструктор класса TracingChromeDriver.
+     *
+     * @param options параметры запуска Chrome.
+     */
+    public TracingChromeDriver(ChromeOptions options) {
+        super(options);
+    }
+
+    @Override
+    protected Response execute(String driverCommand, Map<String, ?> parameters) {
+        long start = System.nanoTime();
+        Response response = null;
+        try {
+            response = super.execute(driverCommand, parameters);
+            return response;
+        } finally {
+            Object value = response != null ? response.getValue() : null;
+            CommandTracer.record(driverCommand, parameters != null && parameters.containsKey("id"),
+                    System.nanoTime() - start, value instanceof Collection ? ((Collection<?>) value).size() : -1);
+        }
+    }
+}
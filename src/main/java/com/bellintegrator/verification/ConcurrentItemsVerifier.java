@@ -0,0 +1,237 @@
+package com.bellintegrator.verification;
+
+import com.bellintegrator.pages.ozon.OzonItemPage;
+import com.bellintegrator.readiness.WidgetReadiness;
+import com.bellintegrator.webdriver.WebDriverPool;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Класс ConcurrentItemsVerifier проверяет товары параллельно в нескольких сессиях браузера.
+ * Текущий поток проверяет товары в отдельной вкладке своей сессии, дополнительные исполнители
+ * берут свободные сессии из {@link WebDriverPool}. Если свободных сессий нет, проверка
+ * выполняется меньшим числом исполнителей, но не блокируется. Сессии пула сброшены после
+ * предыдущей аренды, поэтому перед переходом на страницы товаров в них копируются cookies сессии
+ * теста, включая выбранное местоположение. Количество задействованных сессий пула
+ * выводится в отчет: пул должен вмещать сессии всех параллельных тестов и дополнительные
+ * сессии проверки, иначе проверка фактически выполняется последовательно.
+ * Если задан {@link HttpItemFetcher}, страницы сначала загружаются по HTTP,
+ * а в браузере проверяются только товары, данные которых не удалось извлечь из HTML.
+ * Страницы, данные которых есть в {@link ItemFactsCache}, не загружаются вовсе.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ConcurrentItemsVerifier {
+
+    private static final AtomicInteger WORKER_COUNTER = new AtomicInteger();
+
+    /**
+     * Легкая страница сайта, открываемая в сессии пула для записи cookies в нужный источник.
+     */
+    private static final String COOKIES_PATH = "/robots.txt";
+
+    private final WebDriver webDriver;
+    private final int parallelism;
+    private final HttpItemFetcher httpFetcher;
+    private final ItemFactsCache cache = ItemFactsCache.getInstance();
+
+    /**
+     * Конструктор класса ConcurrentItemsVerifier.
+     *
+     * @param webDriver   сессия текущего теста, в которой открыта страница каталога.
+     * @param parallelism максимальное количество сессий, одновременно проверяющих товары.
+     */
+    public ConcurrentItemsVerifier(WebDriver webDriver, int parallelism) {
+        this(webDriver, parallelism, null);
+    }
+
+    /**
+     * Конструктор класса ConcurrentItemsVerifier с предварительной загрузкой страниц по HTTP.
+     *
+     * @param webDriver   сессия текущего теста, в которой открыта страница каталога.
+     * @param parallelism максимальное количество сессий, одновременно проверяющих товары.
+     * @param httpFetcher загрузчик страниц товаров по HTTP или null, если все страницы проверяются в браузере.
+     */
+    public ConcurrentItemsVerifier(WebDriver webDriver, int parallelism, HttpItemFetcher httpFetcher) {
+        this.webDriver = webDriver;
+        this.parallelism = Math.max(1, parallelism);
+        this.httpFetcher = httpFetcher;
+    }
+
+    /**
+     * Проверяет товары по ссылкам и собирает вердикты в отчет.
+     *
+     * @param itemUrls ссылки на страницы товаров в порядке выдачи.
+     * @param criteria условия, которым должны соответствовать товары.
+     * @return отчет о проверке, упорядоченный по позиции товара в выдаче.
+     */
+    public ItemsVerificationReport verify(List<String> itemUrls, ItemCriteria criteria) {
+        List<ItemVerdict> verdicts = Collections.synchronizedList(new ArrayList<>());
+        List<ItemFacts> known = new ArrayList<>(itemUrls.size());
+        List<Integer> missed = new ArrayList<>();
+        for (int i = 0; i < itemUrls.size(); i++) {
+            known.add(cache.get(itemUrls.get(i)));
+            if (known.get(i) == null) {
+                missed.add(i);
+            }
+        }
+        int cacheHits = itemUrls.size() - missed.size();
+        if (httpFetcher != null && !missed.isEmpty()) {
+            List<String> missedUrls = new ArrayList<>(missed.size());
+            for (Integer index : missed) {
+                missedUrls.add(itemUrls.get(index));
+            }
+            List<ItemFacts> fetched = httpFetcher.fetchAll(missedUrls);
+            for (int i = 0; i < missed.size(); i++) {
+                known.set(missed.get(i), fetched.get(i));
+                cache.put(fetched.get(i));
+            }
+        }
+        Queue<Integer> pending = new ConcurrentLinkedQueue<>();
+        for (int i = 0; i < itemUrls.size(); i++) {
+            if (known.get(i) == null) {
+                pending.add(i);
+                continue;
+            }
+            try {
+                verdicts.add(criteria.check(i, known.get(i)));
+            } catch (RuntimeException e) {
+                verdicts.add(ItemVerdict.error(i, itemUrls.get(i), e));
+            }
+        }
+
+        int extraWorkers = Math.min(parallelism, pending.size()) - 1;
+        ExecutorService executor = null;
+        List<Future<?>> futures = new ArrayList<>();
+        AtomicInteger pooledSessions = new AtomicInteger();
+        if (extraWorkers > 0) {
+            String origin = originOf(webDriver.getCurrentUrl());
+            Set<Cookie> cookies = webDriver.manage().getCookies();
+            executor = Executors.newFixedThreadPool(extraWorkers, runnable ->
+                    new Thread(runnable, "items-verifier-" + WORKER_COUNTER.incrementAndGet()));
+            for (int i = 0; i < extraWorkers; i++) {
+                futures.add(executor.submit(() -> verifyInPooledSession(itemUrls, pending, criteria, verdicts,
+                        origin, cookies, pooledSessions)));
+            }
+        }
+        try {
+            verifyInNewTab(itemUrls, pending, criteria, verdicts);
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Проверка товаров прервана", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Ошибка исполнителя проверки товаров", e.getCause());
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+        return new ItemsVerificationReport(verdicts,
+                "Кэш страниц товаров: попаданий " + cacheHits + ", промахов " + missed.size()
+                        + "; сессий пула: " + pooledSessions.get() + " из " + Math.max(0, extraWorkers));
+    }
+
+    /**
+     * Проверяет товары из общей очереди в свободной сессии пула с cookies сессии теста.
+     */
+    private void verifyInPooledSession(List<String> itemUrls, Queue<Integer> pending,
+                                       ItemCriteria criteria, List<ItemVerdict> verdicts,
+                                       String origin, Set<Cookie> cookies, AtomicInteger pooledSessions) {
+        WebDriver workerDriver = WebDriverPool.getInstance().tryAcquire();
+        if (workerDriver == null) {
+            return;
+        }
+        try {
+            copyCookies(workerDriver, origin, cookies);
+            pooledSessions.incrementAndGet();
+            drain(workerDriver, itemUrls, pending, criteria, verdicts);
+        } catch (WebDriverException e) {
+            // товары остаются в очереди и проверяются во вкладке сессии теста
+        } finally {
+            WebDriverPool.getInstance().release();
+        }
+    }
+
+    /**
+     * Переносит cookies сессии теста в сессию пула, чтобы страницы товаров открывались
+     * с тем же состоянием сайта, что и выдача каталога.
+     */
+    private static void copyCookies(WebDriver workerDriver, String origin, Set<Cookie> cookies) {
+        workerDriver.get(origin + COOKIES_PATH);
+        for (Cookie cookie : cookies) {
+            try {
+                workerDriver.manage().addCookie(cookie);
+            } catch (WebDriverException e) {
+                // cookie другого домена нельзя добавить с этой страницы
+            }
+        }
+    }
+
+    /**
+     * Выделяет источник (схему, хост и порт) из URL.
+     */
+    private static String originOf(String url) {
+        URI uri = URI.create(url);
+        return uri.getScheme() + "://" + uri.getHost() + (uri.getPort() >= 0 ? ":" + uri.getPort() : "");
+    }
+
+    /**
+     * Проверяет товары из общей очереди в новой вкладке сессии теста
+     * и возвращается на исходную вкладку.
+     */
+    private void verifyInNewTab(List<String> itemUrls, Queue<Integer> pending,
+                                ItemCriteria criteria, List<ItemVerdict> verdicts) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        String originWindow = webDriver.getWindowHandle();
+        Set<String> existingWindows = webDriver.getWindowHandles();
+        ((JavascriptExecutor) webDriver).executeScript("window.open('about:blank');");
+        Set<String> newWindows = webDriver.getWindowHandles();
+        newWindows.removeAll(existingWindows);
+        webDriver.switchTo().window(newWindows.iterator().next());
+        try {
+            drain(webDriver, itemUrls, pending, criteria, verdicts);
+        } finally {
+            webDriver.close();
+            webDriver.switchTo().window(originWindow);
+        }
+    }
+
+    /**
+     * Забирает товары из очереди, пока она не опустеет, и проверяет их в указанной сессии.
+     */
+    private void drain(WebDriver driver, List<String> itemUrls, Queue<Integer> pending,
+                       ItemCriteria criteria, List<ItemVerdict> verdicts) {
+        Integer index;
+        while ((index = pending.poll()) != null) {
+            String itemUrl = itemUrls.get(index);
+            try {
+                WidgetReadiness.open(driver, itemUrl, OzonItemPage.class);
+                ItemFacts facts = ItemPageReader.read(driver, itemUrl);
+                cache.put(facts);
+                verdicts.add(criteria.check(index, facts));
+            } catch (RuntimeException e) {
+                verdicts.add(ItemVerdict.error(index, itemUrl, e));
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.bellintegrator.verification;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Класс HttpItemFetcher загружает страницы товаров по HTTP с cookies сессии браузера, не открывая вкладок.
+ * Запросы выполняются клиентом java.net.http по HTTP/2 и параллельно, HTML разбирается потоково
+ * классом {@link ItemHtmlParser}. Если страница не содержит цены или заголовка (ответ не 200,
+ * страница проверки бота или отрисовка на клиенте), результат для нее не возвращается,
+ * и такую страницу нужно проверить в браузере.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class HttpItemFetcher {
+
+    private final HttpClient httpClient;
+    private final String cookieHeader;
+    private final String userAgent;
+    private final Duration timeout;
+    private final int concurrency;
+
+    /**
+     * Конструктор класса HttpItemFetcher.
+     *
+     * @param cookies     cookies, передаваемые с каждым запросом.
+     * @param userAgent   заголовок User-Agent или null.
+     * @param timeout     таймаут одного запроса.
+     * @param concurrency максимальное количество одновременных запросов.
+     */
+    public HttpItemFetcher(Collection<Cookie> cookies, String userAgent, Duration timeout, int concurrency) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(timeout)
+                .build();
+        StringBuilder header = new StringBuilder();
+        for (Cookie cookie : cookies) {
+            if (header.length() > 0) {
+                header.append("; ");
+            }
+            header.append(cookie.getName()).append('=').append(cookie.getValue());
+        }
+        this.cookieHeader = header.toString();
+        this.userAgent = userAgent;
+        this.timeout = timeout;
+        this.concurrency = Math.max(1, concurrency);
+    }
+
+    /**
+     * Создает загрузчик с cookies и User-Agent сессии браузера.
+     * В браузере должна быть открыта страница того же домена, что и страницы товаров.
+     *
+     * @param webDriver   сессия браузера.
+     * @param timeout     таймаут одного запроса.
+     * @param concurrency максимальное количество одновременных запросов.
+     * @return загрузчик страниц товаров.
+     */
+    public static HttpItemFetcher fromSession(WebDriver webDriver, Duration timeout, int concurrency) {
+        String userAgent = (String) ((JavascriptExecutor) webDriver).executeScript("return navigator.userAgent;");
+        return new HttpItemFetcher(webDriver.manage().getCookies(), userAgent, timeout, concurrency);
+    }
+
+    /**
+     * Загружает страницы товаров параллельно.
+     *
+     * @param itemUrls ссылки на страницы товаров.
+     * @return данные о товарах в порядке ссылок; null для страниц, которые нужно проверить в браузере.
+     */
+    public List<ItemFacts> fetchAll(List<String> itemUrls) {
+        Semaphore permits = new Semaphore(concurrency);
+        List<CompletableFuture<ItemFacts>> futures = new ArrayList<>(itemUrls.size());
+        for (String itemUrl : itemUrls) {
+            permits.acquireUninterruptibly();
+            futures.add(send(itemUrl)
+                    .handle((facts, error) -> error == null ? facts : null)
+                    .whenComplete((facts, error) -> permits.release()));
+        }
+        List<ItemFacts> result = new ArrayList<>(itemUrls.size());
+        for (CompletableFuture<ItemFacts> future : futures) {
+            result.add(future.join());
+        }
+        return result;
+    }
+
+    /**
+     * Загружает одну страницу товара.
+     *
+     * @param itemUrl ссылка на страницу товара.
+     * @return данные о товаре или null, если страницу нужно проверить в браузере.
+     */
+    public ItemFacts fetch(String itemUrl) {
+        try {
+            return send(itemUrl).join();
+        } catch (CompletionException e) {
+            return null;
+        }
+    }
+
+    private CompletableFuture<ItemFacts> send(String itemUrl) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(itemUrl))
+                .timeout(timeout)
+                .header("Accept", "text/html")
+                .header("Accept-Encoding", "gzip");
+        if (!cookieHeader.isEmpty()) {
+            request.header("Cookie", cookieHeader);
+        }
+        if (userAgent != null) {
+            request.header("User-Agent", userAgent);
+        }
+        return httpClient.sendAsync(request.GET().build(), HttpResponse.BodyHandlers.ofInputStream())
+                .thenApply(response -> parse(itemUrl, response));
+    }
+
+    private static ItemFacts parse(String itemUrl, HttpResponse<InputStream> response) {
+        try (InputStream body = response.body()) {
+            if (response.statusCode() != 200) {
+                return null;
+            }
+            InputStream content = response.headers().firstValue("Content-Encoding")
+                    .filter("gzip"::equalsIgnoreCase).isPresent() ? new GZIPInputStream(body) : body;
+            return new ItemHtmlParser(new BufferedReader(new InputStreamReader(content, StandardCharsets.UTF_8)))
+                    .parse(itemUrl);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось прочитать страницу товара " + itemUrl, e);
+        }
+    }
+}
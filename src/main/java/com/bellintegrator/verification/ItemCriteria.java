@@ -0,0 +1,117 @@
+package com.bellintegrator.verification;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Класс ItemCriteria описывает условия, которым должен соответствовать найденный товар:
+ * диапазон цен и список допустимых брендов.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ItemCriteria {
+
+    private final int minPrice;
+    private final int maxPrice;
+    private final List<String> brands;
+
+    /**
+     * Конструктор класса ItemCriteria.
+     *
+     * @param minPriceInput минимальная цена.
+     * @param maxPriceInput максимальная цена.
+     * @param brands        допустимые бренды.
+     */
+    public ItemCriteria(String minPriceInput, String maxPriceInput, String... brands) {
+        this.minPrice = Integer.parseInt(minPriceInput);
+        this.maxPrice = Integer.parseInt(maxPriceInput);
+        this.brands = Arrays.asList(brands);
+    }
+
+    public int getMinPrice() {
+        return minPrice;
+    }
+
+    public int getMaxPrice() {
+        return maxPrice;
+    }
+
+    public List<String> getBrands() {
+        return brands;
+    }
+
+    /**
+     * Преобразует текст цены со страницы в число целых рублей.
+     *
+     * @param priceText текст цены.
+     * @return цена в рублях без копеек.
+     * @throws PriceParseException если текст не является ценой.
+     */
+    public static int parsePrice(String priceText) {
+        return Math.toIntExact(PriceParser.parseMinor(priceText) / 100);
+    }
+
+    /**
+     * Проверяет, содержит ли название товара хотя бы один из допустимых брендов.
+     *
+     * @param title название товара.
+     * @return true, если бренд найден в названии.
+     */
+    public boolean isBrandMatched(String title) {
+        for (String brand : brands) {
+            if (title.contains(brand)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Проверяет, находится ли цена вблизи одной из границ диапазона.
+     *
+     * @param price  цена товара.
+     * @param margin доля от значения границы, например 0.05 для 5%.
+     * @return true, если цена отличается от одной из границ не больше чем на заданную долю.
+     */
+    public boolean isNearBoundary(int price, double margin) {
+        return Math.abs(price - minPrice) <= minPrice * margin || Math.abs(price - maxPrice) <= maxPrice * margin;
+    }
+
+    /**
+     * Возвращает описание допустимых брендов для сообщений об ошибках.
+     *
+     * @return бренды, перечисленные через " or ".
+     */
+    public String describeBrands() {
+        return String.join(" or ", brands);
+    }
+
+    /**
+     * Проверяет данные товара на соответствие условиям.
+     *
+     * @param index порядковый номер товара в выдаче.
+     * @param facts данные товара.
+     * @return вердикт по товару.
+     */
+    public ItemVerdict check(int index, ItemFacts facts) {
+        List<String> violations = new ArrayList<>();
+        if (facts.getCheckedPrice() == null) {
+            violations.add("Нет цены, товар отсутствует в продаже");
+            return new ItemVerdict(index, facts.getUrl(), null, facts.getTitle(), violations);
+        }
+        long itemPriceMinor = PriceParser.parseMinor(facts.getCheckedPrice());
+        int itemPrice = Math.toIntExact(itemPriceMinor / 100);
+        if (itemPriceMinor < minPrice * 100L) {
+            violations.add("Цена меньше " + minPrice);
+        }
+        if (itemPriceMinor > maxPrice * 100L) {
+            violations.add("Цена больше " + maxPrice);
+        }
+        if (!isBrandMatched(facts.getTitle())) {
+            violations.add("Название не содержит производителя " + describeBrands());
+        }
+        return new ItemVerdict(index, facts.getUrl(), itemPrice, facts.getTitle(), violations);
+    }
+}
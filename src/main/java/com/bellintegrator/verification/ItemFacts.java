@@ -0,0 +1,76 @@
+package com.bellintegrator.verification;
+
+import java.time.Instant;
+
+/**
+ * Класс ItemFacts содержит данные, извлеченные со страницы товара: цены, название и время извлечения.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ItemFacts {
+
+    private final String url;
+    private final String price;
+    private final String cardPrice;
+    private final String title;
+    private final Instant fetchedAt;
+
+    /**
+     * Конструктор класса ItemFacts.
+     *
+     * @param url       ссылка на страницу товара.
+     * @param price     текст обычной цены или null, если она не считывалась.
+     * @param cardPrice текст цены с картой Ozon или null, если ее нет.
+     * @param title     название товара.
+     */
+    public ItemFacts(String url, String price, String cardPrice, String title) {
+        this(url, price, cardPrice, title, Instant.now());
+    }
+
+    /**
+     * Конструктор класса ItemFacts с заданным временем извлечения.
+     *
+     * @param url       ссылка на страницу товара.
+     * @param price     текст обычной цены или null, если она не считывалась.
+     * @param cardPrice текст цены с картой Ozon или null, если ее нет.
+     * @param title     название товара.
+     * @param fetchedAt время, когда данные были извлечены со страницы.
+     */
+    public ItemFacts(String url, String price, String cardPrice, String title, Instant fetchedAt) {
+        this.url = url;
+        this.price = price;
+        this.cardPrice = cardPrice;
+        this.title = title;
+        this.fetchedAt = fetchedAt;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getPrice() {
+        return price;
+    }
+
+    public String getCardPrice() {
+        return cardPrice;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public Instant getFetchedAt() {
+        return fetchedAt;
+    }
+
+    /**
+     * Возвращает цену, по которой проверяется товар: цену с картой Ozon, а в случае ее отсутствия обычную.
+     *
+     * @return текст проверяемой цены.
+     */
+    public String getCheckedPrice() {
+        return cardPrice != null ? cardPrice : price;
+    }
+}
@@ -0,0 +1,213 @@
+package com.bellintegrator.verification;
+
+import com.bellintegrator.properties.Properties;
+import org.openqa.selenium.json.Json;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Кэш данных, извлеченных со страниц товаров, по каноническому URL товара.
+ * Нужен, когда одна и та же выдача проверяется с несколькими наборами параметров или повторно после перезапуска:
+ * страница товара открывается один раз, пока данные не устарели.
+ * Размер кэша ограничен, при переполнении вытесняются давно не использованные записи;
+ * записи старше TTL не выдаются. Если задан файл, кэш загружается из него при создании,
+ * а общий кэш сохраняется в него при завершении JVM, поэтому данные переживают перезапуск
+ * в рамках одного конвейера.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ItemFactsCache {
+
+    private static volatile ItemFactsCache instance;
+
+    private final int capacity;
+    private final Duration ttl;
+    private final Path file;
+    private final LinkedHashMap<String, ItemFacts> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Конструктор кэша.
+     *
+     * @param capacity максимальное количество записей; 0 и меньше отключает кэш.
+     * @param ttl      время, в течение которого данные считаются актуальными.
+     * @param file     файл для сохранения между запусками или null.
+     */
+    public ItemFactsCache(int capacity, Duration ttl, Path file) {
+        this.capacity = capacity;
+        this.ttl = ttl;
+        this.file = file;
+        this.entries = new LinkedHashMap<String, ItemFacts>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ItemFacts> eldest) {
+                return size() > ItemFactsCache.this.capacity;
+            }
+        };
+        if (file != null && capacity > 0) {
+            load();
+        }
+    }
+
+    /**
+     * Возвращает общий кэш, настроенный свойствами verify.items.cache.*.
+     *
+     * @return экземпляр кэша.
+     */
+    public static ItemFactsCache getInstance() {
+        if (instance == null) {
+            synchronized (ItemFactsCache.class) {
+                if (instance == null) {
+                    String file = Properties.testsProperties.verifyItemsCacheFile().trim();
+                    ItemFactsCache cache = new ItemFactsCache(Properties.testsProperties.verifyItemsCacheSize(),
+                            Duration.ofMinutes(Properties.testsProperties.verifyItemsCacheTtlMinutes()),
+                            file.isEmpty() ? null : Paths.get(file));
+                    if (cache.file != null && cache.capacity > 0) {
+                        Runtime.getRuntime().addShutdownHook(new Thread(cache::save, "item-facts-cache-save"));
+                    }
+                    instance = cache;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Возвращает актуальные данные о товаре.
+     *
+     * @param url ссылка на страницу товара.
+     * @return данные о товаре или null, если их нет в кэше или они устарели.
+     */
+    public ItemFacts get(String url) {
+        if (capacity <= 0) {
+            return null;
+        }
+        String key = canonicalUrl(url);
+        ItemFacts facts;
+        synchronized (entries) {
+            facts = entries.get(key);
+            if (facts != null && isExpired(facts)) {
+                entries.remove(key);
+                facts = null;
+            }
+        }
+        (facts != null ? hits : misses).incrementAndGet();
+        return facts;
+    }
+
+    /**
+     * Сохраняет данные о товаре.
+     *
+     * @param facts данные о товаре.
+     */
+    public void put(ItemFacts facts) {
+        if (capacity <= 0 || facts == null) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(canonicalUrl(facts.getUrl()), facts);
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Приводит ссылку на товар к каноническому виду: без параметров, фрагмента и завершающей косой черты.
+     *
+     * @param url ссылка на страницу товара.
+     * @return канонический URL.
+     */
+    static String canonicalUrl(String url) {
+        int end = url.length();
+        int query = url.indexOf('?');
+        if (query >= 0) {
+            end = query;
+        }
+        int fragment = url.indexOf('#');
+        if (fragment >= 0 && fragment < end) {
+            end = fragment;
+        }
+        while (end > 0 && url.charAt(end - 1) == '/') {
+            end--;
+        }
+        return url.substring(0, end);
+    }
+
+    private boolean isExpired(ItemFacts facts) {
+        return facts.getFetchedAt().plus(ttl).isBefore(Instant.now());
+    }
+
+    /**
+     * Загружает актуальные записи из файла.
+     */
+    private void load() {
+        if (!Files.isRegularFile(file)) {
+            return;
+        }
+        try {
+            List<Map<String, Object>> stored = new Json().toType(
+                    new String(Files.readAllBytes(file), StandardCharsets.UTF_8), Json.LIST_OF_MAPS_TYPE);
+            synchronized (entries) {
+                for (Map<String, Object> entry : stored) {
+                    ItemFacts facts = new ItemFacts((String) entry.get("url"), (String) entry.get("price"),
+                            (String) entry.get("cardPrice"), (String) entry.get("title"),
+                            Instant.parse((String) entry.get("fetchedAt")));
+                    if (!isExpired(facts)) {
+                        entries.put(canonicalUrl(facts.getUrl()), facts);
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Сохраняет актуальные записи в файл, от давно не использованных к недавним.
+     * Для общего кэша вызывается при завершении JVM.
+     */
+    void save() {
+        List<Map<String, Object>> stored = new ArrayList<>();
+        synchronized (entries) {
+            for (ItemFacts facts : entries.values()) {
+                if (isExpired(facts)) {
+                    continue;
+                }
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("url", facts.getUrl());
+                entry.put("price", facts.getPrice());
+                entry.put("cardPrice", facts.getCardPrice());
+                entry.put("title", facts.getTitle());
+                entry.put("fetchedAt", facts.getFetchedAt().toString());
+                stored.add(entry);
+            }
+        }
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, "item-facts", ".tmp");
+            Files.write(temporary, new Json().toJson(stored).getBytes(StandardCharsets.UTF_8));
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.bellintegrator.verification;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Map;
+
+/**
+ * Класс ItemHtmlParser за один проход по HTML страницы товара извлекает состояние виджета webPrice
+ * и заголовок h1. Ozon отдает состояние виджетов в атрибуте data-state элементов с id вида state-webPrice-...,
+ * поэтому цена доступна без выполнения JavaScript. Разбор потоковый: документ не собирается в строку
+ * и не строится DOM, чтение прекращается, как только найдены и цена, и заголовок.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class ItemHtmlParser {
+
+    private static final String PRICE_STATE = "id=\"state-webPrice-";
+    private static final String OUT_OF_STOCK_STATE = "id=\"state-webOutOfStock-";
+    private static final String HEADLINE = "<h1";
+    private static final String[] MARKERS = {PRICE_STATE, OUT_OF_STOCK_STATE, HEADLINE};
+
+    private final Reader reader;
+    private final StringBuilder window = new StringBuilder();
+
+    /**
+     * Конструктор класса ItemHtmlParser.
+     *
+     * @param reader HTML страницы товара; буферизацию обеспечивает вызывающий код.
+     */
+    ItemHtmlParser(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Извлекает данные о товаре.
+     *
+     * @param url ссылка на страницу товара.
+     * @return данные о товаре или null, если цены или заголовка нет в HTML и страницу нужно отрисовать в браузере.
+     * @throws IOException если не удалось прочитать страницу.
+     */
+    ItemFacts parse(String url) throws IOException {
+        Map<String, Object> priceState = null;
+        boolean outOfStock = false;
+        String title = null;
+        int marker;
+        while ((priceState == null && !outOfStock || title == null) && (marker = skipToAny()) >= 0) {
+            if (MARKERS[marker] == HEADLINE) {
+                title = readHeadline();
+            } else if (MARKERS[marker] == OUT_OF_STOCK_STATE) {
+                outOfStock = true;
+            } else if (priceState == null) {
+                priceState = readPriceState();
+            }
+        }
+        if (title == null || title.isEmpty() || (priceState == null && !outOfStock)) {
+            return null;
+        }
+        if (outOfStock || Boolean.FALSE.equals(priceState.get("isAvailable"))) {
+            return new ItemFacts(url, null, null, title);
+        }
+        String cardPrice = (String) priceState.get("cardPrice");
+        String price = (String) priceState.get("price");
+        if (cardPrice == null && price == null) {
+            return null;
+        }
+        return new ItemFacts(url, cardPrice == null ? price : null, cardPrice, title);
+    }
+
+    /**
+     * Читает значение атрибута data-state открывающего тега, в котором найден маркер.
+     *
+     * @return состояние виджета или null, если атрибута нет или он не разбирается.
+     */
+    private Map<String, Object> readPriceState() throws IOException {
+        String attributes = readUntil(">");
+        int start = attributes.indexOf("data-state=");
+        if (start < 0 || start + 11 >= attributes.length()) {
+            return null;
+        }
+        char quote = attributes.charAt(start + 11);
+        int end = attributes.indexOf(quote, start + 12);
+        if (end < 0) {
+            return null;
+        }
+        try {
+            return new Json().toType(unescape(attributes.substring(start + 12, end)), Json.MAP_TYPE);
+        } catch (JsonException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Читает текст заголовка h1 без вложенных тегов; пробельные символы, как и в тексте элемента браузера,
+     * заменяются одним пробелом.
+     */
+    private String readHeadline() throws IOException {
+        readUntil(">");
+        String html = readUntil("</h1>");
+        return unescape(html.replaceAll("<[^>]*>", " ")).replaceAll("[\\s\\u00A0]+", " ").trim();
+    }
+
+    /**
+     * Пропускает текст до первого из маркеров.
+     *
+     * @return номер найденного маркера или -1, если документ закончился.
+     */
+    private int skipToAny() throws IOException {
+        window.setLength(0);
+        int c;
+        while ((c = reader.read()) >= 0) {
+            window.append((char) c);
+            for (int i = 0; i < MARKERS.length; i++) {
+                if (endsWith(MARKERS[i])) {
+                    return i;
+                }
+            }
+            if (window.length() > 64) {
+                window.delete(0, window.length() - 32);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Читает текст до терминатора включительно.
+     *
+     * @return прочитанный текст без терминатора.
+     */
+    private String readUntil(String terminator) throws IOException {
+        window.setLength(0);
+        int c;
+        while ((c = reader.read()) >= 0) {
+            window.append((char) c);
+            if (endsWith(terminator)) {
+                return window.substring(0, window.length() - terminator.length());
+            }
+        }
+        return window.toString();
+    }
+
+    private boolean endsWith(String suffix) {
+        int offset = window.length() - suffix.length();
+        if (offset < 0) {
+            return false;
+        }
+        for (int i = 0; i < suffix.length(); i++) {
+            if (window.charAt(offset + i) != suffix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Заменяет ссылки на символы HTML на сами символы.
+     */
+    static String unescape(String html) {
+        if (html.indexOf('&') < 0) {
+            return html;
+        }
+        StringBuilder text = new StringBuilder(html.length());
+        int i = 0;
+        while (i < html.length()) {
+            char c = html.charAt(i);
+            int end = c == '&' ? html.indexOf(';', i) : -1;
+            if (end < 0 || end - i > 10) {
+                text.append(c);
+                i++;
+                continue;
+            }
+            String entity = html.substring(i + 1, end);
+            int codePoint = -1;
+            if (entity.startsWith("#x") || entity.startsWith("#X")) {
+                codePoint = parseCodePoint(entity.substring(2), 16);
+            } else if (entity.startsWith("#")) {
+                codePoint = parseCodePoint(entity.substring(1), 10);
+            } else if (entity.equals("quot")) {
+                codePoint = '"';
+            } else if (entity.equals("amp")) {
+                codePoint = '&';
+            } else if (entity.equals("lt")) {
+                codePoint = '<';
+            } else if (entity.equals("gt")) {
+                codePoint = '>';
+            } else if (entity.equals("apos")) {
+                codePoint = '\'';
+            } else if (entity.equals("nbsp")) {
+                codePoint = '\u00A0';
+            } else if (entity.equals("thinsp")) {
+                codePoint = '\u2009';
+            }
+            if (codePoint < 0) {
+                text.append(c);
+                i++;
+            } else {
+                text.appendCodePoint(codePoint);
+                i = end + 1;
+            }
+        }
+        return text.toString();
+    }
+
+    private static int parseCodePoint(String digits, int radix) {
+        try {
+            return Integer.parseInt(digits, radix);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.bellintegrator.verification;
+
+import com.bellintegrator.pages.ozon.OzonItemPage;
+import com.bellintegrator.readiness.FirstOfWait;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Класс ItemPageReader извлекает данные о товаре со страницы товара, открытой в браузере.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ItemPageReader {
+
+    /**
+     * Считывает цену и название товара с текущей страницы браузера.
+     * Если товар отсутствует в продаже, обе цены в результате равны null.
+     *
+     * @param webDriver экземпляр WebDriver, в котором открыта страница товара.
+     * @param url       ссылка на страницу товара.
+     * @return данные о товаре.
+     */
+    public static ItemFacts read(WebDriver webDriver, String url) {
+        OzonItemPage ozonItemPage = new OzonItemPage(webDriver);
+        FirstOfWait.Match<OzonItemPage.PriceKind> priceMatch = ozonItemPage.resolvePrice();
+        String price = null;
+        String cardPrice = null;
+        if (priceMatch.getKey() == OzonItemPage.PriceKind.CARD_PRICE) {
+            cardPrice = priceMatch.getElement().getText();
+        } else if (priceMatch.getKey() == OzonItemPage.PriceKind.REGULAR_PRICE) {
+            price = priceMatch.getElement().getText(); // в случае отсутсвия цены по карте
+        }
+        String title = ozonItemPage.getNameItem().getText();
+        return new ItemFacts(url, price, cardPrice, title);
+    }
+}
@@ -0,0 +1,84 @@
+package com.bellintegrator.verification;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Класс ItemVerdict содержит результат проверки одного товара.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ItemVerdict {
+
+    private final int index;
+    private final String url;
+    private final Integer price;
+    private final String title;
+    private final List<String> violations;
+
+    /**
+     * Конструктор класса ItemVerdict.
+     *
+     * @param index      порядковый номер товара в выдаче.
+     * @param url        ссылка на страницу товара.
+     * @param price      цена товара или null, если ее не удалось получить.
+     * @param title      название товара или null, если его не удалось получить.
+     * @param violations список нарушенных условий.
+     */
+    public ItemVerdict(int index, String url, Integer price, String title, List<String> violations) {
+        this.index = index;
+        this.url = url;
+        this.price = price;
+        this.title = title;
+        this.violations = Collections.unmodifiableList(violations);
+    }
+
+    /**
+     * Создает вердикт для товара, который не удалось проверить из-за ошибки.
+     *
+     * @param index порядковый номер товара в выдаче.
+     * @param url   ссылка на страницу товара.
+     * @param error возникшая ошибка.
+     * @return вердикт с описанием ошибки.
+     */
+    public static ItemVerdict error(int index, String url, Exception error) {
+        String message = "Не удалось проверить товар: " + error.getClass().getSimpleName();
+        return new ItemVerdict(index, url, null, null, Collections.singletonList(message));
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public Integer getPrice() {
+        return price;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public List<String> getViolations() {
+        return violations;
+    }
+
+    /**
+     * Проверяет, что товар соответствует всем условиям.
+     *
+     * @return true, если нарушений нет.
+     */
+    public boolean isPassed() {
+        return violations.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("#%d %s | %s | %s | %s", index + 1, isPassed() ? "OK" : "FAIL",
+                price, title, isPassed() ? url : String.join("; ", violations) + " | " + url);
+    }
+}
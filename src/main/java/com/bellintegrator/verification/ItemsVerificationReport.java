@@ -0,0 +1,105 @@
+package com.bellintegrator.verification;
+
+import io.qameta.allure.Attachment;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Класс ItemsVerificationReport объединяет вердикты по товарам в один отчет.
+ * Вердикты упорядочены по позиции товара в выдаче, поэтому отчет не зависит от порядка проверки.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ItemsVerificationReport {
+
+    private final List<ItemVerdict> verdicts;
+    private final List<String> notes;
+
+    /**
+     * Конструктор класса ItemsVerificationReport.
+     *
+     * @param verdicts вердикты по товарам в произвольном порядке.
+     * @param notes    дополнительные сведения о проверке, выводимые в отчете.
+     */
+    public ItemsVerificationReport(List<ItemVerdict> verdicts, String... notes) {
+        List<ItemVerdict> sorted = new ArrayList<>(verdicts);
+        sorted.sort(Comparator.comparingInt(ItemVerdict::getIndex));
+        this.verdicts = Collections.unmodifiableList(sorted);
+        this.notes = Arrays.asList(notes);
+    }
+
+    public List<ItemVerdict> getVerdicts() {
+        return verdicts;
+    }
+
+    public List<String> getNotes() {
+        return notes;
+    }
+
+    /**
+     * Возвращает вердикты по товарам, не прошедшим проверку.
+     *
+     * @return список вердиктов с нарушениями.
+     */
+    public List<ItemVerdict> getFailures() {
+        List<ItemVerdict> failures = new ArrayList<>();
+        for (ItemVerdict verdict : verdicts) {
+            if (!verdict.isPassed()) {
+                failures.add(verdict);
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Проверяет, что все товары прошли проверку.
+     *
+     * @return true, если нарушений нет.
+     */
+    public boolean isPassed() {
+        return getFailures().isEmpty();
+    }
+
+    /**
+     * Возвращает краткое описание результата проверки.
+     *
+     * @return строка с количеством проверенных товаров и нарушений.
+     */
+    public String getSummary() {
+        List<ItemVerdict> failures = getFailures();
+        StringBuilder summary = new StringBuilder()
+                .append("Проверено товаров: ").append(verdicts.size())
+                .append(", с нарушениями: ").append(failures.size());
+        for (String note : notes) {
+            summary.append(System.lineSeparator()).append(note);
+        }
+        for (ItemVerdict failure : failures) {
+            summary.append(System.lineSeparator()).append(failure);
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Прикрепляет полный отчет к отчету Allure.
+     *
+     * @return текст отчета.
+     */
+    @Attachment(value = "Отчет о проверке товаров", type = "text/plain")
+    public String attach() {
+        return toString();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder(getSummary());
+        report.append(System.lineSeparator());
+        for (ItemVerdict verdict : verdicts) {
+            report.append(System.lineSeparator()).append(verdict);
+        }
+        return report.toString();
+    }
+}
@@ -0,0 +1,73 @@
+package com.bellintegrator.verification;
+
+/**
+ * Исключение, означающее, что текст не удалось разобрать как цену.
+ * Наследует NumberFormatException, поэтому обрабатывается там же, где и ошибки Integer.parseInt.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class PriceParseException extends NumberFormatException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Причина ошибки разбора.
+     */
+    public enum Reason {
+        /**
+         * Текст пустой или состоит из пробелов.
+         */
+        EMPTY,
+        /**
+         * В тексте нет суммы.
+         */
+        NO_DIGITS,
+        /**
+         * Символ, который не может стоять в этом месте цены.
+         */
+        UNEXPECTED_CHARACTER,
+        /**
+         * Больше двух цифр после десятичного разделителя.
+         */
+        TOO_MANY_FRACTION_DIGITS,
+        /**
+         * Сумма не помещается в long в копейках.
+         */
+        OVERFLOW,
+        /**
+         * Верхняя граница диапазона меньше нижней.
+         */
+        INVALID_RANGE
+    }
+
+    private final Reason reason;
+    private final int position;
+    private final String input;
+
+    /**
+     * Конструктор класса PriceParseException.
+     *
+     * @param reason   причина ошибки.
+     * @param position позиция символа, на котором разбор остановился.
+     * @param input    разбираемый текст.
+     */
+    public PriceParseException(Reason reason, int position, CharSequence input) {
+        super("Не удалось разобрать цену '" + input + "': " + reason + " в позиции " + position);
+        this.reason = reason;
+        this.position = position;
+        this.input = String.valueOf(input);
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public String getInput() {
+        return input;
+    }
+}
@@ -0,0 +1,223 @@
+package com.bellintegrator.verification;
+
+/**
+ * Класс PriceParser разбирает текст цены за один проход по символам, без регулярных выражений
+ * и промежуточных строк, и возвращает сумму в копейках.
+ * Поддерживаются:
+ * <ul>
+ *     <li>разделители разрядов: пробел, неразрывный пробел, узкий и тонкий пробелы;</li>
+ *     <li>копейки после запятой или точки, одна или две цифры;</li>
+ *     <li>знак ₽ и сокращения "руб", "р." после суммы;</li>
+ *     <li>префиксы "от" и "до", сумма после которых считается ценой;</li>
+ *     <li>диапазоны через дефис, тире или "до": "10 000 – 12 000 ₽", "от 10 000 до 12 000 ₽";
+ *     вторая сумма диапазона должна заканчиваться обозначением валюты;</li>
+ *     <li>зачеркнутая старая цена, скидка и другой текст после суммы, например "24 990 ₽ 31 990 ₽"
+ *     или "24 990 ₽ -10%" - учитывается первая сумма.</li>
+ * </ul>
+ * Ошибки сообщаются исключением {@link PriceParseException} с причиной и позицией.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class PriceParser {
+
+    private static final long MAX_UNITS = Long.MAX_VALUE / 100;
+
+    private final CharSequence text;
+    private int position;
+
+    /**
+     * Конструктор разбора одного текста.
+     *
+     * @param text текст цены.
+     */
+    private PriceParser(CharSequence text) {
+        this.text = text;
+    }
+
+    /**
+     * Разбирает цену, для диапазона - нижнюю границу.
+     *
+     * @param text текст цены.
+     * @return сумма в копейках.
+     * @throws PriceParseException если текст не является ценой.
+     */
+    public static long parseMinor(CharSequence text) {
+        return new PriceParser(text).parse(false);
+    }
+
+    /**
+     * Разбирает цену, для диапазона - верхнюю границу.
+     *
+     * @param text текст цены.
+     * @return сумма в копейках.
+     * @throws PriceParseException если текст не является ценой.
+     */
+    public static long parseUpperMinor(CharSequence text) {
+        return new PriceParser(text).parse(true);
+    }
+
+    /**
+     * Разбирает цену или диапазон.
+     *
+     * @param upper true - вернуть верхнюю границу диапазона, false - нижнюю.
+     */
+    private long parse(boolean upper) {
+        skipSpaces();
+        if (position == text.length()) {
+            throw error(PriceParseException.Reason.EMPTY);
+        }
+        if (skipWord("от") || skipWord("до")) {
+            skipSpaces();
+        }
+        long first = amount();
+        skipCurrency();
+        int rangeStart = position;
+        if (skipRangeSeparator()) {
+            skipSpaces();
+            Long second = rangeEnd();
+            if (second != null) {
+                if (second < first) {
+                    throw new PriceParseException(PriceParseException.Reason.INVALID_RANGE, rangeStart, text);
+                }
+                return upper ? second : first;
+            }
+            position = rangeStart;
+        }
+        return first;
+    }
+
+    /**
+     * Разбирает вторую сумму диапазона. Сумма без обозначения валюты, например "-10%" после цены,
+     * диапазоном не считается.
+     *
+     * @return вторая сумма в копейках или null, если после разделителя идет другой текст.
+     */
+    private Long rangeEnd() {
+        if (position == text.length() || !isDigit(text.charAt(position))) {
+            return null;
+        }
+        long second;
+        try {
+            second = amount();
+        } catch (PriceParseException e) {
+            return null;
+        }
+        return skipCurrency() ? second : null;
+    }
+
+    /**
+     * Разбирает сумму: цифры с разделителями разрядов и необязательные копейки.
+     */
+    private long amount() {
+        int length = text.length();
+        if (position == length) {
+            throw error(PriceParseException.Reason.NO_DIGITS);
+        }
+        if (!isDigit(text.charAt(position))) {
+            throw error(PriceParseException.Reason.UNEXPECTED_CHARACTER);
+        }
+        long units = 0;
+        while (position < length) {
+            char c = text.charAt(position);
+            if (isDigit(c)) {
+                if (units > (MAX_UNITS - (c - '0')) / 10) {
+                    throw error(PriceParseException.Reason.OVERFLOW);
+                }
+                units = units * 10 + (c - '0');
+                position++;
+            } else if (isSpace(c) && position + 1 < length && isDigit(text.charAt(position + 1))) {
+                position++;
+            } else {
+                break;
+            }
+        }
+        long minor = units * 100;
+        if (position + 1 < length && (text.charAt(position) == ',' || text.charAt(position) == '.')
+                && isDigit(text.charAt(position + 1))) {
+            position++;
+            minor += (text.charAt(position++) - '0') * 10;
+            if (position < length && isDigit(text.charAt(position))) {
+                minor += text.charAt(position++) - '0';
+                if (position < length && isDigit(text.charAt(position))) {
+                    throw error(PriceParseException.Reason.TOO_MANY_FRACTION_DIGITS);
+                }
+            }
+        }
+        return minor;
+    }
+
+    /**
+     * Пропускает пробелы и обозначение валюты после суммы.
+     *
+     * @return true, если обозначение валюты было.
+     */
+    private boolean skipCurrency() {
+        skipSpaces();
+        boolean found = false;
+        if (position < text.length() && text.charAt(position) == '\u20BD') {
+            position++;
+            found = true;
+        } else if (skipWord("руб") || skipWord("р")) {
+            if (position < text.length() && text.charAt(position) == '.') {
+                position++;
+            }
+            found = true;
+        }
+        skipSpaces();
+        return found;
+    }
+
+    /**
+     * Пропускает разделитель диапазона: дефис, тире или слово "до".
+     */
+    private boolean skipRangeSeparator() {
+        if (position < text.length()) {
+            char c = text.charAt(position);
+            if (c == '-' || c == '\u2013' || c == '\u2014') {
+                position++;
+                return true;
+            }
+        }
+        return skipWord("до");
+    }
+
+    /**
+     * Пропускает слово без учета регистра, если за ним не следует буква.
+     */
+    private boolean skipWord(String word) {
+        int end = position + word.length();
+        if (end > text.length()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (Character.toLowerCase(text.charAt(position + i)) != word.charAt(i)) {
+                return false;
+            }
+        }
+        if (end < text.length() && Character.isLetter(text.charAt(end))) {
+            return false;
+        }
+        position = end;
+        return true;
+    }
+
+    private void skipSpaces() {
+        while (position < text.length() && isSpace(text.charAt(position))) {
+            position++;
+        }
+    }
+
+    private PriceParseException error(PriceParseException.Reason reason) {
+        return new PriceParseException(reason, position, text);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\u00A0' || c == '\u2009' || c == '\u202F' || c == '\u2007'
+                || c == '\t' || c == '\n' || c == '\r';
+    }
+}
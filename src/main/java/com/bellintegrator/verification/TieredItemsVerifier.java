@@ -0,0 +1,142 @@
+package com.bellintegrator.verification;
+
+import com.bellintegrator.pages.ozon.CatalogCard;
+import org.openqa.selenium.WebDriver;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Класс TieredItemsVerifier проверяет товары в два уровня.
+ * Сначала каждый товар проверяется по данным карточки в результатах поиска, без открытия страницы товара.
+ * Затем страницы открываются только для глубокой проверки: для случайной выборки карточек,
+ * для карточек с неполными данными, для карточек с ценой у границы диапазона и для карточек
+ * с нарушениями. Для этих товаров результат глубокой проверки заменяет результат по карточке.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class TieredItemsVerifier {
+
+    private final WebDriver webDriver;
+    private final int parallelism;
+    private final int sampleSize;
+    private final double boundaryMargin;
+    private final long seed;
+    private final HttpItemFetcher httpFetcher;
+
+    /**
+     * Конструктор класса TieredItemsVerifier.
+     *
+     * @param webDriver      сессия текущего теста, в которой открыта страница каталога.
+     * @param parallelism    количество сессий для глубокой проверки.
+     * @param sampleSize     размер случайной выборки для глубокой проверки.
+     * @param boundaryMargin доля от границы диапазона, в пределах которой цена считается пограничной.
+     * @param seed           начальное значение генератора выборки, чтобы выборка повторялась от запуска к запуску.
+     */
+    public TieredItemsVerifier(WebDriver webDriver, int parallelism, int sampleSize, double boundaryMargin, long seed) {
+        this(webDriver, parallelism, sampleSize, boundaryMargin, seed, null);
+    }
+
+    /**
+     * Конструктор класса TieredItemsVerifier с загрузкой страниц для глубокой проверки по HTTP.
+     *
+     * @param webDriver      сессия текущего теста, в которой открыта страница каталога.
+     * @param parallelism    количество сессий для глубокой проверки.
+     * @param sampleSize     размер случайной выборки для глубокой проверки.
+     * @param boundaryMargin доля от границы диапазона, в пределах которой цена считается пограничной.
+     * @param seed           начальное значение генератора выборки, чтобы выборка повторялась от запуска к запуску.
+     * @param httpFetcher    загрузчик страниц товаров по HTTP или null, если страницы открываются в браузере.
+     */
+    public TieredItemsVerifier(WebDriver webDriver, int parallelism, int sampleSize, double boundaryMargin, long seed,
+                               HttpItemFetcher httpFetcher) {
+        this.webDriver = webDriver;
+        this.parallelism = parallelism;
+        this.sampleSize = sampleSize;
+        this.boundaryMargin = boundaryMargin;
+        this.seed = seed;
+        this.httpFetcher = httpFetcher;
+    }
+
+    /**
+     * Рассчитывает размер выборки, при котором с вероятностью confidence в нее попадет хотя бы
+     * одна ошибочная карточка, если доля ошибочных карточек не меньше defectRate.
+     *
+     * @param confidence требуемая доверительная вероятность, от 0 до 1.
+     * @param defectRate минимальная доля ошибочных карточек, которую нужно обнаружить, от 0 до 1.
+     * @return размер выборки.
+     */
+    public static int sampleSize(double confidence, double defectRate) {
+        if (confidence <= 0 || defectRate >= 1) {
+            return 0;
+        }
+        if (confidence >= 1 || defectRate <= 0) {
+            return Integer.MAX_VALUE;
+        }
+        return (int) Math.ceil(Math.log(1 - confidence) / Math.log(1 - defectRate));
+    }
+
+    /**
+     * Проверяет товары по карточкам и открывает страницы отобранных товаров для глубокой проверки.
+     *
+     * @param cards    карточки найденных товаров в порядке выдачи.
+     * @param criteria условия, которым должны соответствовать товары.
+     * @return отчет о проверке, упорядоченный по позиции товара в выдаче.
+     */
+    public ItemsVerificationReport verify(List<CatalogCard> cards, ItemCriteria criteria) {
+        List<ItemVerdict> verdicts = new ArrayList<>(cards.size());
+        Set<Integer> deepIndexes = new LinkedHashSet<>();
+        List<Integer> regularIndexes = new ArrayList<>();
+        for (int i = 0; i < cards.size(); i++) {
+            CatalogCard card = cards.get(i);
+            ItemVerdict verdict = checkTile(i, card, criteria);
+            verdicts.add(verdict);
+            if (verdict == null || !verdict.isPassed()
+                    || criteria.isNearBoundary(verdict.getPrice(), boundaryMargin)) {
+                deepIndexes.add(i);
+            } else {
+                regularIndexes.add(i);
+            }
+        }
+        Collections.shuffle(regularIndexes, new Random(seed));
+        deepIndexes.addAll(regularIndexes.subList(0, Math.min(sampleSize, regularIndexes.size())));
+
+        List<Integer> deepOrder = new ArrayList<>(deepIndexes);
+        Collections.sort(deepOrder);
+        List<String> deepUrls = new ArrayList<>(deepOrder.size());
+        for (Integer index : deepOrder) {
+            deepUrls.add(cards.get(index).getHref());
+        }
+        ItemsVerificationReport deepReport = new ConcurrentItemsVerifier(webDriver, parallelism, httpFetcher)
+                .verify(deepUrls, criteria);
+        for (ItemVerdict deepVerdict : deepReport.getVerdicts()) {
+            int index = deepOrder.get(deepVerdict.getIndex());
+            verdicts.set(index, new ItemVerdict(index, deepVerdict.getUrl(), deepVerdict.getPrice(),
+                    deepVerdict.getTitle(), deepVerdict.getViolations()));
+        }
+        List<String> notes = new ArrayList<>();
+        notes.add("Проверено по карточкам: " + cards.size() + ", открыто страниц товаров: " + deepOrder.size());
+        notes.addAll(deepReport.getNotes());
+        return new ItemsVerificationReport(verdicts, notes.toArray(new String[0]));
+    }
+
+    /**
+     * Проверяет товар по данным карточки.
+     *
+     * @return вердикт по карточке или null, если данных карточки недостаточно для проверки.
+     */
+    private ItemVerdict checkTile(int index, CatalogCard card, ItemCriteria criteria) {
+        ItemFacts facts = new ItemFacts(card.getHref(), card.getDisplayedPrice(), card.getCardPrice(), card.getTitle());
+        if (facts.getCheckedPrice() == null || facts.getTitle() == null) {
+            return null;
+        }
+        try {
+            return criteria.check(index, facts);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
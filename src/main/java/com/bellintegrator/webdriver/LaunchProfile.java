@@ -0,0 +1,81 @@
+package com.bellintegrator.webdriver;
+
+import com.bellintegrator.properties.Properties;
+import org.openqa.selenium.chrome.ChromeOptions;
+import java.util.Collections;
+import java.util.StringJoiner;
+
+/**
+ * Профили запуска Chrome, выбираемые свойством webdriver.profile.
+ * <ul>
+ *     <li>FULL - обычный браузер с окном, развернутым на весь экран;</li>
+ *     <li>HEADLESS - браузер без окна с фиксированным размером области просмотра;</li>
+ *     <li>LEAN - headless без картинок и загружаемых шрифтов, с блокировкой хостов аналитики и рекламы.</li>
+ * </ul>
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum LaunchProfile {
+
+    FULL,
+    HEADLESS,
+    LEAN;
+
+    /**
+     * Возвращает профиль, заданный свойством webdriver.profile.
+     *
+     * @return профиль запуска.
+     */
+    public static LaunchProfile fromProperties() {
+        return valueOf(Properties.testsProperties.launchProfile().trim().toUpperCase());
+    }
+
+    /**
+     * Формирует параметры запуска Chrome для профиля.
+     *
+     * @return параметры запуска.
+     */
+    public ChromeOptions toChromeOptions() {
+        ChromeOptions options = new ChromeOptions();
+        if (this == FULL) {
+            return options;
+        }
+        options.addArguments("--headless", "--disable-gpu",
+                "--window-size=" + Properties.testsProperties.windowSize());
+        if (this == LEAN) {
+            options.addArguments("--blink-settings=imagesEnabled=false", "--disable-remote-fonts",
+                    "--disable-extensions", "--mute-audio");
+            options.setExperimentalOption("prefs",
+                    Collections.singletonMap("profile.managed_default_content_settings.images", 2));
+            String[] blockedHosts = Properties.testsProperties.blockedHosts();
+            if (blockedHosts.length > 0) {
+                options.addArguments("--host-resolver-rules=" + hostResolverRules(blockedHosts));
+            }
+        }
+        return options;
+    }
+
+    /**
+     * Нужно ли разворачивать окно браузера после запуска.
+     *
+     * @return true для профиля с окном.
+     */
+    public boolean isMaximized() {
+        return this == FULL;
+    }
+
+    /**
+     * Формирует правила, по которым Chrome не разрешает имена заблокированных хостов,
+     * поэтому запросы к ним завершаются сразу, не уходя в сеть.
+     */
+    private static String hostResolverRules(String[] blockedHosts) {
+        StringJoiner rules = new StringJoiner(", ");
+        for (String host : blockedHosts) {
+            if (!host.trim().isEmpty()) {
+                rules.add("MAP " + host.trim() + " ~NOTFOUND");
+            }
+        }
+        return rules.toString();
+    }
+}
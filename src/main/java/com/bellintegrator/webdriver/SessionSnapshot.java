@@ -0,0 +1,183 @@
+package com.bellintegrator.webdriver;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.json.Json;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Снимок состояния сессии браузера для одного сайта: cookies, localStorage и sessionStorage.
+ * Снимок сохраняется в JSON файл и восстанавливается в новой сессии до первого перехода,
+ * поэтому сайт встречает браузер как уже знакомый: без предупреждений о cookies и о выборе локации.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class SessionSnapshot {
+
+    /**
+     * Легкая страница сайта, открываемая для записи cookies и storage в нужный источник.
+     */
+    private static final String RESTORE_PATH = "/robots.txt";
+
+    private static final String READ_STORAGE_SCRIPT =
+            "function dump(storage) { var result = {};" +
+            "  for (var i = 0; i < storage.length; i++) { result[storage.key(i)] = storage.getItem(storage.key(i)); }" +
+            "  return result; }" +
+            "return [dump(window.localStorage), dump(window.sessionStorage)];";
+
+    private static final String WRITE_STORAGE_SCRIPT =
+            "var local = arguments[0], session = arguments[1];" +
+            "for (var key in local) { window.localStorage.setItem(key, local[key]); }" +
+            "for (var key in session) { window.sessionStorage.setItem(key, session[key]); }";
+
+    private final String origin;
+    private final long createdAtMillis;
+    private final List<Map<String, Object>> cookies;
+    private final Map<String, Object> localStorage;
+    private final Map<String, Object> sessionStorage;
+
+    private SessionSnapshot(String origin, long createdAtMillis, List<Map<String, Object>> cookies,
+                            Map<String, Object> localStorage, Map<String, Object> sessionStorage) {
+        this.origin = origin;
+        this.createdAtMillis = createdAtMillis;
+        this.cookies = cookies;
+        this.localStorage = localStorage;
+        this.sessionStorage = sessionStorage;
+    }
+
+    /**
+     * Снимает состояние открытого в браузере сайта.
+     *
+     * @param webDriver экземпляр WebDriver с открытой страницей сайта.
+     * @return снимок состояния.
+     */
+    @SuppressWarnings("unchecked")
+    public static SessionSnapshot capture(WebDriver webDriver) {
+        List<Map<String, Object>> cookies = new ArrayList<>();
+        for (Cookie cookie : webDriver.manage().getCookies()) {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("name", cookie.getName());
+            json.put("value", cookie.getValue());
+            json.put("domain", cookie.getDomain());
+            json.put("path", cookie.getPath());
+            json.put("expiry", cookie.getExpiry() != null ? cookie.getExpiry().getTime() : null);
+            json.put("secure", cookie.isSecure());
+            json.put("httpOnly", cookie.isHttpOnly());
+            cookies.add(json);
+        }
+        List<Map<String, Object>> storages = (List<Map<String, Object>>)
+                ((JavascriptExecutor) webDriver).executeScript(READ_STORAGE_SCRIPT);
+        return new SessionSnapshot(originOf(webDriver.getCurrentUrl()), System.currentTimeMillis(),
+                cookies, storages.get(0), storages.get(1));
+    }
+
+    /**
+     * Читает снимок из файла.
+     *
+     * @param file файл снимка.
+     * @return снимок состояния.
+     * @throws IOException если файл не удалось прочитать.
+     */
+    @SuppressWarnings("unchecked")
+    public static SessionSnapshot load(Path file) throws IOException {
+        Map<String, Object> json = new Json().toType(
+                new String(Files.readAllBytes(file), StandardCharsets.UTF_8), Json.MAP_TYPE);
+        return new SessionSnapshot((String) json.get("origin"), ((Number) json.get("createdAtMillis")).longValue(),
+                (List<Map<String, Object>>) json.get("cookies"),
+                (Map<String, Object>) json.get("localStorage"), (Map<String, Object>) json.get("sessionStorage"));
+    }
+
+    /**
+     * Записывает снимок в файл.
+     *
+     * @param file файл снимка.
+     * @throws IOException если файл не удалось записать.
+     */
+    public void save(Path file) throws IOException {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("origin", origin);
+        json.put("createdAtMillis", createdAtMillis);
+        json.put("cookies", cookies);
+        json.put("localStorage", localStorage);
+        json.put("sessionStorage", sessionStorage);
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temporary, new Json().toJson(json).getBytes(StandardCharsets.UTF_8));
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Восстанавливает снимок в сессии: открывает легкую страницу сайта,
+     * добавляет неистекшие cookies и заполняет storage.
+     *
+     * @param webDriver экземпляр WebDriver новой сессии.
+     */
+    public void restore(WebDriver webDriver) {
+        webDriver.get(origin + RESTORE_PATH);
+        long now = System.currentTimeMillis();
+        for (Map<String, Object> json : cookies) {
+            Number expiry = (Number) json.get("expiry");
+            if (expiry != null && expiry.longValue() <= now) {
+                continue;
+            }
+            Cookie cookie = new Cookie.Builder((String) json.get("name"), (String) json.get("value"))
+                    .domain((String) json.get("domain"))
+                    .path((String) json.get("path"))
+                    .expiresOn(expiry != null ? new Date(expiry.longValue()) : null)
+                    .isSecure(Boolean.TRUE.equals(json.get("secure")))
+                    .isHttpOnly(Boolean.TRUE.equals(json.get("httpOnly")))
+                    .build();
+            try {
+                webDriver.manage().addCookie(cookie);
+            } catch (WebDriverException e) {
+                // cookie другого домена нельзя добавить с этой страницы
+            }
+        }
+        ((JavascriptExecutor) webDriver).executeScript(WRITE_STORAGE_SCRIPT, localStorage, sessionStorage);
+    }
+
+    /**
+     * Проверяет, что снимок моложе заданного срока.
+     *
+     * @param ttl срок годности снимка.
+     * @return true, если снимок еще годен.
+     */
+    public boolean isFresh(Duration ttl) {
+        return System.currentTimeMillis() - createdAtMillis < ttl.toMillis();
+    }
+
+    /**
+     * Проверяет, что снимок относится к источнику заданного URL.
+     *
+     * @param url адрес страницы.
+     * @return true, если схема, хост и порт совпадают.
+     */
+    public boolean matches(String url) {
+        return origin.equals(originOf(url));
+    }
+
+    /**
+     * Выделяет источник (схему, хост и порт) из URL.
+     */
+    private static String originOf(String url) {
+        URI uri = URI.create(url);
+        return uri.getScheme() + "://" + uri.getHost() + (uri.getPort() >= 0 ? ":" + uri.getPort() : "");
+    }
+}
@@ -0,0 +1,109 @@
+package com.bellintegrator.webdriver;
+
+import com.bellintegrator.properties.Properties;
+import org.openqa.selenium.WebDriver;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+/**
+ * Хранилище снимка состояния сессии, общее для всех тестов прогона и для следующих прогонов.
+ * Снимок хранится в файле session.snapshot.file и считается годным в течение session.snapshot.ttl.minutes.
+ * Восстановление выполняется только в чистой сессии, то есть на пустой странице после выдачи из пула.
+ * Хранилище включается явно свойством session.snapshot.enabled: файл снимка содержит cookies авторизации
+ * открытым текстом.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class SessionSnapshotStore {
+
+    private static final SessionSnapshotStore INSTANCE = new SessionSnapshotStore();
+
+    private final boolean enabled;
+    private final Path file;
+    private final Duration ttl;
+    private SessionSnapshot snapshot;
+    private boolean loaded;
+
+    /**
+     * Конструктор хранилища по свойствам session.snapshot.*.
+     */
+    private SessionSnapshotStore() {
+        this.enabled = Properties.testsProperties.sessionSnapshotEnabled();
+        this.file = Paths.get(Properties.testsProperties.sessionSnapshotFile());
+        this.ttl = Duration.ofMinutes(Properties.testsProperties.sessionSnapshotTtlMinutes());
+    }
+
+    /**
+     * Возвращает общее хранилище снимка.
+     *
+     * @return экземпляр хранилища.
+     */
+    public static SessionSnapshotStore getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Восстанавливает годный снимок в чистой сессии перед переходом на страницу того же сайта.
+     *
+     * @param webDriver экземпляр WebDriver.
+     * @param url       адрес, на который будет выполнен переход.
+     * @return true, если снимок восстановлен.
+     */
+    public boolean restore(WebDriver webDriver, String url) {
+        if (!enabled || !isBlank(webDriver.getCurrentUrl())) {
+            return false;
+        }
+        SessionSnapshot fresh = freshSnapshot();
+        if (fresh == null || !fresh.matches(url)) {
+            return false;
+        }
+        fresh.restore(webDriver);
+        return true;
+    }
+
+    /**
+     * Снимает и сохраняет состояние сессии, если годного снимка еще нет.
+     *
+     * @param webDriver экземпляр WebDriver с открытой страницей сайта.
+     * @return true, если снимок был сохранен.
+     */
+    public synchronized boolean saveIfStale(WebDriver webDriver) {
+        if (!enabled || freshSnapshot() != null) {
+            return false;
+        }
+        SessionSnapshot captured = SessionSnapshot.capture(webDriver);
+        try {
+            captured.save(file);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        }
+        snapshot = captured;
+        return true;
+    }
+
+    /**
+     * Возвращает годный снимок, при первом обращении читая его из файла.
+     */
+    private synchronized SessionSnapshot freshSnapshot() {
+        if (!loaded) {
+            loaded = true;
+            if (Files.exists(file)) {
+                try {
+                    snapshot = SessionSnapshot.load(file);
+                } catch (IOException | RuntimeException e) {
+                    snapshot = null;
+                }
+            }
+        }
+        return snapshot != null && snapshot.isFresh(ttl) ? snapshot : null;
+    }
+
+    private static boolean isBlank(String url) {
+        return url == null || url.startsWith("about:") || url.startsWith("data:");
+    }
+}
@@ -1,53 +1,59 @@
 package com.bellintegrator.webdriver;
 
-import com.bellintegrator.properties.Properties;
+import com.bellintegrator.checkpoint.CheckpointExtension;
+import com.bellintegrator.service.FailureScreenshotExtension;
+import com.bellintegrator.service.ScreenshotPolicyEngine;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.openqa.selenium.*;
-import org.openqa.selenium.chrome.ChromeDriver;
-import java.util.concurrent.TimeUnit;
 
 /**
- * Базовый класс для инициализации WebDriver перед каждым тестом и его завершения после каждого теста.
- * Используется для настройки и управления WebDriver в тестах.
+ * Базовый класс для получения WebDriver перед каждым тестом и его возврата после каждого теста.
+ * Сессии берутся из пула {@link WebDriverPool} и закрепляются за потоком теста,
+ * поэтому тесты могут выполняться параллельно.
+ * Попытки тестов связываются с их контрольными точками через {@link CheckpointExtension},
+ * а к упавшим тестам прикрепляется скриншот через {@link FailureScreenshotExtension}.
  *
  * @version 1.0
  * @since 2024-06-16
  * @author Vergentev Tikhon
  */
+@ExtendWith({CheckpointExtension.class, FailureScreenshotExtension.class})
 public class WebDriverInitialization {
 
     /**
-     * Экземпляр WebDriver, используемый в тестах.
+     * Экземпляр WebDriver, арендованный текущим тестом.
      */
-    public static WebDriver webDriver;
+    protected WebDriver webDriver;
+
+    /**
+     * Возвращает WebDriver, арендованный текущим потоком.
+     *
+     * @return WebDriver текущего потока или null, если поток ничего не арендовал.
+     */
+    public static WebDriver getWebDriver() {
+        return WebDriverPool.getInstance().current();
+    }
 
     /**
      * Метод, выполняющийся перед каждым тестом.
-     * Инициализирует WebDriver, настраивает его и открывает браузер Chrome.
+     * Арендует у пула готовую сессию браузера Chrome.
      */
     @BeforeEach
     public void setUpDriver() {
-        if (System.getenv("CHROME_DRIVER") != null) {
-            System.setProperty("webdriver.chrome.driver", System.getenv("CHROME_DRIVER"));
-        } else {
-            System.setProperty("webdriver.chrome.driver", Properties.testsProperties.chromeDriverPath());
-        }
-        webDriver = new ChromeDriver();
-        webDriver.manage().window().maximize();
-        webDriver.manage().timeouts().implicitlyWait(Properties.testsProperties.implicitlyWait(), TimeUnit.SECONDS);
-        webDriver.manage().timeouts().pageLoadTimeout(Properties.testsProperties.pageLoadTimeout(), TimeUnit.SECONDS);
-        webDriver.manage().timeouts().setScriptTimeout(Properties.testsProperties.scriptTimeout(), TimeUnit.SECONDS);
+        webDriver = WebDriverPool.getInstance().acquire();
+        ScreenshotPolicyEngine.getInstance().reset();
     }
 
     /**
      * Метод, выполняющийся после каждого теста.
-     * Завершает работу WebDriver, закрывая браузер.
+     * Сбрасывает состояние браузера и возвращает сессию в пул.
      */
     @AfterEach
     public void quit() {
         if (webDriver != null) {
-            webDriver.quit();
+            WebDriverPool.getInstance().release();
             webDriver = null;
         }
     }
@@ -0,0 +1,246 @@
+package com.bellintegrator.webdriver;
+
+import com.bellintegrator.properties.Properties;
+import com.bellintegrator.proxy.NetworkJourney;
+import com.bellintegrator.tracing.TracingChromeDriver;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Пул "прогретых" сессий WebDriver с арендой сессии на поток.
+ * Сессии создаются лениво, но не больше размера пула, и переиспользуются между тестами:
+ * при возврате в пул состояние браузера (cookies, лишние вкладки, storage) сбрасывается.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class WebDriverPool {
+
+    private static final WebDriverPool INSTANCE = new WebDriverPool(resolvePoolSize());
+
+    private final int capacity;
+    private final BlockingQueue<WebDriver> idleDrivers = new LinkedBlockingQueue<>();
+    private final Set<WebDriver> allDrivers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger createdDrivers = new AtomicInteger();
+    private final ThreadLocal<WebDriver> lease = new ThreadLocal<>();
+
+    /**
+     * Конструктор пула.
+     *
+     * @param capacity максимальное количество одновременно открытых сессий.
+     */
+    WebDriverPool(int capacity) {
+        this.capacity = capacity;
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "webdriver-pool-shutdown"));
+    }
+
+    /**
+     * Возвращает общий пул сессий.
+     *
+     * @return экземпляр пула.
+     */
+    public static WebDriverPool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Возвращает сессию, арендованную текущим потоком.
+     *
+     * @return WebDriver текущего потока или null, если поток ничего не арендовал.
+     */
+    public WebDriver current() {
+        return lease.get();
+    }
+
+    /**
+     * Арендует сессию для текущего потока, ожидая освобождения, если пул исчерпан.
+     * Повторный вызов из того же потока возвращает уже арендованную сессию.
+     *
+     * @return WebDriver, закрепленный за текущим потоком.
+     */
+    public WebDriver acquire() {
+        WebDriver webDriver = lease.get();
+        if (webDriver != null) {
+            return webDriver;
+        }
+        webDriver = idleDrivers.poll();
+        if (webDriver == null) {
+            webDriver = tryCreate();
+        }
+        if (webDriver == null) {
+            try {
+                webDriver = idleDrivers.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Ожидание свободной сессии WebDriver прервано", e);
+            }
+        }
+        lease.set(webDriver);
+        return webDriver;
+    }
+
+    /**
+     * Пытается арендовать сессию, не ожидая освобождения занятых.
+     *
+     * @return WebDriver, закрепленный за текущим потоком, или null, если свободных сессий нет.
+     */
+    public WebDriver tryAcquire() {
+        WebDriver webDriver = lease.get();
+        if (webDriver != null) {
+            return webDriver;
+        }
+        webDriver = idleDrivers.poll();
+        if (webDriver == null) {
+            webDriver = tryCreate();
+        }
+        if (webDriver != null) {
+            lease.set(webDriver);
+        }
+        return webDriver;
+    }
+
+    /**
+     * Возвращает сессию текущего потока в пул, предварительно сбросив ее состояние.
+     * Если сбросить состояние не удалось, сессия закрывается, а ее место в пуле освобождается.
+     */
+    public void release() {
+        WebDriver webDriver = lease.get();
+        if (webDriver == null) {
+            return;
+        }
+        lease.remove();
+        try {
+            resetState(webDriver);
+            idleDrivers.offer(webDriver);
+        } catch (WebDriverException e) {
+            discard(webDriver);
+        }
+    }
+
+    /**
+     * Закрывает все сессии пула.
+     */
+    public void shutdown() {
+        for (WebDriver webDriver : allDrivers) {
+            discard(webDriver);
+        }
+        idleDrivers.clear();
+    }
+
+    /**
+     * Создает новую сессию, если размер пула это позволяет.
+     *
+     * @return новая сессия или null, если пул заполнен.
+     */
+    private WebDriver tryCreate() {
+        while (true) {
+            int created = createdDrivers.get();
+            if (created >= capacity) {
+                return null;
+            }
+            if (createdDrivers.compareAndSet(created, created + 1)) {
+                break;
+            }
+        }
+        try {
+            WebDriver webDriver = createDriver();
+            allDrivers.add(webDriver);
+            return webDriver;
+        } catch (RuntimeException e) {
+            createdDrivers.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * Запускает браузер Chrome с профилем из свойства webdriver.profile, режимом сети из свойства proxy.mode
+     * и стратегией загрузки из свойства webdriver.page.load.strategy,
+     * при включенном свойстве webdriver.trace с трассировкой команд, и настраивает таймауты.
+     *
+     * @return новая сессия WebDriver.
+     */
+    private WebDriver createDriver() {
+        if (System.getenv("CHROME_DRIVER") != null) {
+            System.setProperty("webdriver.chrome.driver", System.getenv("CHROME_DRIVER"));
+        } else {
+            System.setProperty("webdriver.chrome.driver", Properties.testsProperties.chromeDriverPath());
+        }
+        LaunchProfile profile = LaunchProfile.fromProperties();
+        ChromeOptions options = profile.toChromeOptions();
+        NetworkJourney.getInstance().configure(options);
+        options.setPageLoadStrategy(PageLoadStrategy.fromString(Properties.testsProperties.pageLoadStrategy()));
+        WebDriver webDriver = Properties.testsProperties.trace()
+                ? new TracingChromeDriver(options) : new ChromeDriver(options);
+        if (profile.isMaximized()) {
+            webDriver.manage().window().maximize();
+        }
+        webDriver.manage().timeouts().implicitlyWait(Properties.testsProperties.implicitlyWait(), TimeUnit.SECONDS);
+        webDriver.manage().timeouts().pageLoadTimeout(Properties.testsProperties.pageLoadTimeout(), TimeUnit.SECONDS);
+        webDriver.manage().timeouts().setScriptTimeout(Properties.testsProperties.scriptTimeout(), TimeUnit.SECONDS);
+        return webDriver;
+    }
+
+    /**
+     * Сбрасывает состояние сессии: закрывает лишние вкладки, очищает storage и cookies
+     * текущего домена и открывает пустую страницу.
+     *
+     * @param webDriver сессия для сброса.
+     */
+    private void resetState(WebDriver webDriver) {
+        String mainWindow = null;
+        for (String windowHandle : webDriver.getWindowHandles()) {
+            if (mainWindow == null) {
+                mainWindow = windowHandle;
+                continue;
+            }
+            webDriver.switchTo().window(windowHandle);
+            webDriver.close();
+        }
+        webDriver.switchTo().window(mainWindow);
+        try {
+            ((JavascriptExecutor) webDriver)
+                    .executeScript("window.localStorage.clear(); window.sessionStorage.clear();");
+        } catch (WebDriverException e) {
+            // storage недоступен на about:blank и страницах с ошибкой
+        }
+        webDriver.manage().deleteAllCookies();
+        webDriver.get("about:blank");
+    }
+
+    /**
+     * Закрывает сессию и исключает ее из пула.
+     *
+     * @param webDriver сессия для закрытия.
+     */
+    private void discard(WebDriver webDriver) {
+        if (allDrivers.remove(webDriver)) {
+            createdDrivers.decrementAndGet();
+            try {
+                webDriver.quit();
+            } catch (WebDriverException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Определяет размер пула по свойству webdriver.pool.size.
+     * Значение 0 и меньше означает количество доступных процессоров.
+     *
+     * @return размер пула.
+     */
+    private static int resolvePoolSize() {
+        int poolSize = Properties.testsProperties.poolSize();
+        return poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+    }
+}
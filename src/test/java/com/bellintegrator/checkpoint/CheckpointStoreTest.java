@@ -0,0 +1,173 @@
+package com.bellintegrator.checkpoint;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Проверяет жизненный цикл контрольных точек: запись, повтор упавшего теста с точки и очистку после успеха.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class CheckpointStoreTest {
+
+    private static final String CASE_KEY = "Смартфоны|10000|30000|Apple,Samsung";
+    private static final String CATALOG_URL = "https://www.ozon.ru/category/smartfony-15502/";
+    private static final String FILTERED_URL = CATALOG_URL + "?currency_price=10000.000%3B30000.000";
+
+    @Test
+    @DisplayName("Повтор упавшего теста продолжается с последней точки, успех удаляет точку")
+    public void resumesFailedAttemptInMemory(@TempDir Path dir) {
+        CheckpointStore store = new CheckpointStore(true, false, dir, Duration.ofMinutes(30));
+
+        store.begin(CASE_KEY);
+        assertNull(store.resumePoint());
+        store.record(JourneyStage.CATALOG, CATALOG_URL);
+        store.record(JourneyStage.PRICE_RANGE, FILTERED_URL, Collections.singletonMap("Цена", "10000-30000"));
+        store.advanceVerifiedItems(5);
+        store.finish(true);
+
+        store.begin(CASE_KEY);
+        JourneyCheckpoint resumePoint = store.resumePoint();
+        assertNotNull(resumePoint);
+        assertEquals(JourneyStage.PRICE_RANGE, resumePoint.getStage());
+        assertEquals(FILTERED_URL, resumePoint.getUrl());
+        assertEquals("10000-30000", resumePoint.getFilters().get("Цена"));
+        assertFalse(store.isPassed(JourneyStage.CATALOG));
+        assertEquals(0, store.verifiedItems());
+
+        store.markResumed();
+        assertTrue(store.isPassed(JourneyStage.CATALOG));
+        assertTrue(store.isPassed(JourneyStage.PRICE_RANGE));
+        assertFalse(store.isPassed(JourneyStage.BRANDS));
+        assertEquals(5, store.verifiedItems());
+        store.finish(false);
+
+        store.begin(CASE_KEY);
+        assertNull(store.resumePoint());
+        store.finish(false);
+        assertEquals(0, countFiles(dir));
+    }
+
+    @Test
+    @DisplayName("Новый этап сбрасывает курсор проверки товаров и дополняет фильтры")
+    public void advancesStages(@TempDir Path dir) {
+        CheckpointStore store = new CheckpointStore(true, false, dir, Duration.ofMinutes(30));
+
+        store.begin(CASE_KEY);
+        store.record(JourneyStage.CATALOG, CATALOG_URL);
+        store.record(JourneyStage.PRICE_RANGE, FILTERED_URL, Collections.singletonMap("Цена", "10000-30000"));
+        store.advanceVerifiedItems(3);
+        store.record(JourneyStage.BRANDS, FILTERED_URL + "&brand=1", Collections.singletonMap("Бренд", "Apple"));
+        store.finish(true);
+
+        store.begin(CASE_KEY);
+        JourneyCheckpoint resumePoint = store.resumePoint();
+        assertEquals(JourneyStage.BRANDS, resumePoint.getStage());
+        assertEquals(0, resumePoint.getVerifiedItems());
+        assertEquals(2, resumePoint.getFilters().size());
+        store.finish(false);
+    }
+
+    @Test
+    @DisplayName("Отказ от точки запускает путь с начала")
+    public void discardsResumePoint(@TempDir Path dir) {
+        CheckpointStore store = new CheckpointStore(true, false, dir, Duration.ofMinutes(30));
+
+        store.begin(CASE_KEY);
+        store.record(JourneyStage.CATALOG, CATALOG_URL);
+        store.finish(true);
+
+        store.begin(CASE_KEY);
+        store.markResumed();
+        store.discardResumePoint();
+        assertNull(store.resumePoint());
+        assertFalse(store.isPassed(JourneyStage.CATALOG));
+        assertEquals(0, store.verifiedItems());
+        store.finish(true);
+
+        store.begin(CASE_KEY);
+        assertNull(store.resumePoint());
+        store.finish(false);
+    }
+
+    @Test
+    @DisplayName("Точка упавшего теста переживает перезапуск только при checkpoint.resume.across.runs")
+    public void resumesAcrossRuns(@TempDir Path dir) {
+        CheckpointStore firstRun = new CheckpointStore(true, true, dir, Duration.ofMinutes(30));
+        firstRun.begin(CASE_KEY);
+        firstRun.record(JourneyStage.CATALOG, CATALOG_URL);
+        firstRun.advanceVerifiedItems(7);
+        firstRun.finish(true);
+        assertEquals(1, countFiles(dir));
+
+        CheckpointStore inMemoryRun = new CheckpointStore(true, false, dir, Duration.ofMinutes(30));
+        inMemoryRun.begin(CASE_KEY);
+        assertNull(inMemoryRun.resumePoint());
+        inMemoryRun.finish(true);
+
+        CheckpointStore secondRun = new CheckpointStore(true, true, dir, Duration.ofMinutes(30));
+        secondRun.begin(CASE_KEY);
+        secondRun.markResumed();
+        assertEquals(CATALOG_URL, secondRun.resumePoint().getUrl());
+        assertEquals(7, secondRun.verifiedItems());
+        secondRun.finish(false);
+        assertEquals(0, countFiles(dir));
+
+        CheckpointStore thirdRun = new CheckpointStore(true, true, dir, Duration.ofMinutes(30));
+        thirdRun.begin(CASE_KEY);
+        assertNull(thirdRun.resumePoint());
+        thirdRun.finish(false);
+    }
+
+    @Test
+    @DisplayName("Устаревшая точка не используется")
+    public void ignoresStaleCheckpoint(@TempDir Path dir) {
+        CheckpointStore store = new CheckpointStore(true, true, dir, Duration.ZERO);
+
+        store.begin(CASE_KEY);
+        store.record(JourneyStage.CATALOG, CATALOG_URL);
+        store.finish(true);
+
+        store.begin(CASE_KEY);
+        assertNull(store.resumePoint());
+        store.finish(false);
+    }
+
+    @Test
+    @DisplayName("Выключенное хранилище и запись вне попытки ничего не делают")
+    public void ignoresDisabledStore(@TempDir Path dir) {
+        CheckpointStore disabled = new CheckpointStore(false, true, dir, Duration.ofMinutes(30));
+        disabled.begin(CASE_KEY);
+        disabled.record(JourneyStage.CATALOG, CATALOG_URL);
+        disabled.finish(true);
+        disabled.begin(CASE_KEY);
+        assertNull(disabled.resumePoint());
+        disabled.finish(true);
+        assertEquals(0, countFiles(dir));
+
+        CheckpointStore store = new CheckpointStore(true, false, dir, Duration.ofMinutes(30));
+        store.record(JourneyStage.CATALOG, CATALOG_URL);
+        store.begin(CASE_KEY);
+        assertNull(store.resumePoint());
+        store.finish(false);
+    }
+
+    private static long countFiles(Path dir) {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.count();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
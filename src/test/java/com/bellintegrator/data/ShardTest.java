@@ -0,0 +1,68 @@
+package com.bellintegrator.data;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Проверяет разбор части данных и распределение случаев между частями: каждая часть стабильна,
+ * части не пересекаются и вместе покрывают весь набор.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ShardTest {
+
+    @Test
+    @DisplayName("Часть разбирается из строки номер/всего, пустая строка означает весь набор")
+    public void parsesShard() {
+        assertSame(Shard.ALL, Shard.parse(null));
+        assertSame(Shard.ALL, Shard.parse("  "));
+        assertEquals("3/16", Shard.parse("3/16").toString());
+        assertEquals("2/4", Shard.parse(" 2 / 4 ").toString());
+        for (String invalid : new String[]{"0/4", "5/4", "1/0", "1-4", "1/2/3", "a/b"}) {
+            assertThrows(IllegalArgumentException.class, () -> Shard.parse(invalid), invalid);
+        }
+    }
+
+    @Test
+    @DisplayName("Хеш FNV-1a совпадает с эталонными значениями")
+    public void hashesWithFnv1a() {
+        assertEquals(0xcbf29ce484222325L, Shard.fnv1a(""));
+        assertEquals(0xaf63dc4c8601ec8cL, Shard.fnv1a("a"));
+        assertEquals(0x85944171f73967e8L, Shard.fnv1a("foobar"));
+    }
+
+    @Test
+    @DisplayName("Случай всегда попадает в одну и ту же часть")
+    public void assignsStably() {
+        assertTrue(new Shard(6, 16).owns("case-1"));
+        assertTrue(new Shard(8, 16).owns("case-2"));
+        assertTrue(new Shard(9, 16).owns("case-3"));
+    }
+
+    @Test
+    @DisplayName("Части не пересекаются, покрывают все случаи и распределены равномерно")
+    public void partitionsCases() {
+        int total = 16;
+        int cases = 16_000;
+        int[] sizes = new int[total];
+        for (int c = 0; c < cases; c++) {
+            String key = TestCaseSource.key(new String[]{"ОК", "Электроника", "Ноутбуки", String.valueOf(c)});
+            int owners = 0;
+            for (int index = 1; index <= total; index++) {
+                if (new Shard(index, total).owns(key)) {
+                    owners++;
+                    sizes[index - 1]++;
+                }
+            }
+            assertEquals(1, owners, key);
+            assertTrue(Shard.ALL.owns(key));
+        }
+        for (int index = 0; index < total; index++) {
+            assertTrue(Math.abs(sizes[index] - cases / total) < cases / total / 4,
+                    "часть " + (index + 1) + ": " + sizes[index]);
+        }
+    }
+}
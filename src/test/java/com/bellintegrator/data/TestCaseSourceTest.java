@@ -0,0 +1,131 @@
+package com.bellintegrator.data;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Проверяет чтение тестовых случаев из CSV и JSONL: кавычки, заголовок, комментарии,
+ * порядок колонок и отбор случаев по частям.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class TestCaseSourceTest {
+
+    private static final String[] COLUMNS = {"brand", "minPrice", "maxPrice"};
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Значения в кавычках могут содержать запятые и кавычки")
+    public void parsesQuotedCsv() {
+        assertEquals(Arrays.asList("a", "b,c", "say \"hi\"", ""),
+                TestCaseSource.parseCsvLine("a, \"b,c\" ,\"say \"\"hi\"\"\","));
+        assertEquals(Arrays.asList("Lenovo", "10000"), TestCaseSource.parseCsvLine(" Lenovo ,10000"));
+        assertEquals(Arrays.asList(""), TestCaseSource.parseCsvLine(""));
+    }
+
+    @Test
+    @DisplayName("Заголовок CSV читается после комментариев и BOM, значения собираются в порядке теста")
+    public void readsCsvByHeader() throws IOException {
+        Path file = write("cases.csv",
+                "# Случаи фильтрации каталога",
+                "",
+                "\uFEFFmaxPrice,brand,minPrice",
+                "30000,Lenovo,10000",
+                "# отключенный случай",
+                "",
+                "50000,\"HP, Inc\",20000");
+        assertEquals(Arrays.asList(
+                Arrays.asList("Lenovo", "10000", "30000"),
+                Arrays.asList("HP, Inc", "20000", "50000")), read(file, Shard.ALL));
+    }
+
+    @Test
+    @DisplayName("JSONL читается с теми же именами полей, числа становятся строками")
+    public void readsJsonl() throws IOException {
+        Path file = write("cases.jsonl",
+                "{\"minPrice\": 10000, \"brand\": \"Lenovo\", \"maxPrice\": \"30000\"}",
+                "",
+                "{\"brand\": \"HP\", \"minPrice\": \"20000\", \"maxPrice\": 50000, \"note\": \"лишнее поле\"}");
+        assertEquals(Arrays.asList(
+                Arrays.asList("Lenovo", "10000", "30000"),
+                Arrays.asList("HP", "20000", "50000")), read(file, Shard.ALL));
+    }
+
+    @Test
+    @DisplayName("Части файла не пересекаются и вместе дают все случаи")
+    public void splitsFileIntoShards() throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("brand,minPrice,maxPrice");
+        for (int i = 0; i < 300; i++) {
+            lines.add("brand" + i + "," + i + "," + (i + 1000));
+        }
+        Path file = write("many.csv", lines.toArray(new String[0]));
+        Set<List<String>> seen = new HashSet<>();
+        int count = 0;
+        for (int index = 1; index <= 3; index++) {
+            for (List<String> values : read(file, new Shard(index, 3))) {
+                assertTrue(seen.add(values), "случай в двух частях: " + values);
+                count++;
+            }
+        }
+        assertEquals(300, count);
+    }
+
+    @Test
+    @DisplayName("Ключ случая соединяет значения разделителем, которого нет в данных")
+    public void joinsKey() {
+        assertEquals("Lenovo\u001f10000", TestCaseSource.key(new String[]{"Lenovo", "10000"}));
+        assertNotEquals(TestCaseSource.key(new String[]{"a,b", "c"}), TestCaseSource.key(new String[]{"a", "b,c"}));
+    }
+
+    @Test
+    @DisplayName("Файл без колонки, без заголовка или неизвестного формата отклоняется")
+    public void rejectsInvalidFiles() throws IOException {
+        Path missingColumn = write("missing.csv", "brand,minPrice", "Lenovo,10000");
+        assertThrows(IllegalArgumentException.class, () -> read(missingColumn, Shard.ALL));
+        Path noHeader = write("empty.csv", "# только комментарий", "");
+        assertThrows(IllegalArgumentException.class, () -> read(noHeader, Shard.ALL));
+        Path unknown = write("cases.txt", "brand,minPrice,maxPrice");
+        assertThrows(IllegalArgumentException.class, () -> read(unknown, Shard.ALL));
+    }
+
+    @Test
+    @DisplayName("Файл данных теста каталога читается с колонками DataProvider")
+    public void readsBundledData() {
+        try (Stream<String[]> cases = TestCaseSource.read("src/main/resources/data/test_four.csv", Shard.ALL,
+                "cookieButton", "menu", "innerMenu", "checkUrl",
+                "brandOne", "brandTwo", "minPrice", "maxPrice", "quantity")) {
+            assertTrue(cases.count() > 0);
+        }
+    }
+
+    private Path write(String name, String... lines) throws IOException {
+        Path file = directory.resolve(name);
+        Files.write(file, Arrays.asList(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private static List<List<String>> read(Path file, Shard shard) {
+        try (Stream<String[]> cases = TestCaseSource.read(file.toString(), shard, COLUMNS)) {
+            return cases.map(Arrays::asList).collect(Collectors.toList());
+        }
+    }
+}
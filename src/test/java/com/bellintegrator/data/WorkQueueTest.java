@@ -0,0 +1,125 @@
+package com.bellintegrator.data;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Проверяет раздачу случаев через общую очередь двумя участниками с общим каталогом,
+ * как двумя процессами одного запуска.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class WorkQueueTest {
+
+    private static final Duration TTL = Duration.ofMinutes(30);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Заявленный случай не достается второму участнику ни во время выполнения, ни после")
+    public void claimIsExclusiveUntilAndAfterCompletion() {
+        WorkQueue first = new WorkQueue(directory, TTL, "first");
+        WorkQueue second = new WorkQueue(directory, TTL, "second");
+
+        String claim = first.tryClaim("case-1");
+        assertNotNull(claim);
+        assertNull(second.tryClaim("case-1"), "Случай выполняется первым участником");
+
+        first.complete(claim);
+        assertTrue(Files.exists(directory.resolve(claim + ".done")));
+        assertNull(second.tryClaim("case-1"), "Выполненный случай не выполняется повторно");
+        assertEquals(claim, first.tryClaim("case-1"), "Участник может повторить свой случай");
+        first.complete(claim);
+    }
+
+    @Test
+    @DisplayName("Случай не помечается выполненным, пока участник его не завершил")
+    public void claimStaysOpenWhileRunning() {
+        WorkQueue first = new WorkQueue(directory, TTL, "first");
+        String claim = first.tryClaim("case-1");
+        assertNotNull(first.tryClaim("case-2"));
+
+        assertTrue(Files.exists(directory.resolve(claim + ".claim")));
+        assertFalse(Files.exists(directory.resolve(claim + ".done")));
+    }
+
+    @Test
+    @DisplayName("Незавершенную заявку упавшего участника после TTL забирает другой участник")
+    public void staleClaimIsTakenOver() throws Exception {
+        WorkQueue crashed = new WorkQueue(directory, TTL, "crashed");
+        WorkQueue survivor = new WorkQueue(directory, TTL, "survivor");
+        WorkQueue late = new WorkQueue(directory, TTL, "late");
+
+        String claim = crashed.tryClaim("case-1");
+        assertNull(survivor.tryClaim("case-1"));
+
+        Files.setLastModifiedTime(directory.resolve(claim + ".claim"),
+                FileTime.from(Instant.now().minus(TTL).minusSeconds(60)));
+        assertEquals(claim, survivor.tryClaim("case-1"));
+        assertNull(late.tryClaim("case-1"), "Просроченную заявку забирает только один участник");
+
+        survivor.complete(claim);
+        crashed.complete(claim);
+        assertTrue(Files.exists(directory.resolve(claim + ".done")));
+        assertFalse(Files.exists(directory.resolve(claim + ".claim")));
+    }
+
+    @Test
+    @DisplayName("Два участника, разбирающие случаи одновременно, выполняют каждый случай ровно один раз")
+    public void concurrentParticipantsRunEachCaseOnce() throws Exception {
+        List<String> cases = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            cases.add("case-" + i);
+        }
+        Map<String, AtomicInteger> runs = new ConcurrentHashMap<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (String participant : new String[]{"first", "second"}) {
+                WorkQueue queue = new WorkQueue(directory, TTL, participant);
+                Callable<Integer> worker = () -> {
+                    start.await();
+                    int executed = 0;
+                    for (String caseKey : cases) {
+                        String claim = queue.tryClaim(caseKey);
+                        if (claim != null) {
+                            runs.computeIfAbsent(caseKey, key -> new AtomicInteger()).incrementAndGet();
+                            executed++;
+                            queue.complete(claim);
+                        }
+                    }
+                    return executed;
+                };
+                results.add(executor.submit(worker));
+            }
+            start.countDown();
+            int total = results.get(0).get() + results.get(1).get();
+            assertEquals(cases.size(), total);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(cases.size(), runs.size());
+        runs.forEach((caseKey, count) -> assertEquals(1, count.get(), caseKey));
+    }
+}
@@ -0,0 +1,120 @@
+package com.bellintegrator.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Проверяет границы корзин лог-линейной гистограммы и оценку перцентилей.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class LatencyHistogramTest {
+
+    private static final long TOP = 1L << 40;
+
+    @Test
+    @DisplayName("Значения до 64 мкс хранятся точно")
+    public void keepsSmallValuesExact() {
+        for (long value = 0; value < 64; value++) {
+            assertEquals(value, LatencyHistogram.indexOf(value));
+            assertEquals(value, LatencyHistogram.upperBoundOf((int) value));
+        }
+        assertEquals(64, LatencyHistogram.indexOf(64));
+        assertEquals(64, LatencyHistogram.indexOf(65));
+        assertEquals(65, LatencyHistogram.upperBoundOf(64));
+        assertEquals(65, LatencyHistogram.indexOf(66));
+    }
+
+    @Test
+    @DisplayName("Корзины идут подряд без пропусков, и каждое значение лежит в границах своей корзины")
+    public void bucketsAreContiguous() {
+        for (int index = 1; index < LatencyHistogram.indexOf(TOP - 1); index++) {
+            long lower = LatencyHistogram.upperBoundOf(index - 1) + 1;
+            long upper = LatencyHistogram.upperBoundOf(index);
+            assertTrue(lower <= upper, "корзина " + index);
+            assertEquals(index, LatencyHistogram.indexOf(lower), "нижняя граница корзины " + index);
+            assertEquals(index, LatencyHistogram.indexOf(upper), "верхняя граница корзины " + index);
+        }
+    }
+
+    @Test
+    @DisplayName("Относительная ширина корзины не превышает 1/32 на границах степеней двойки")
+    public void boundsRelativeError() {
+        for (int exponent = 6; exponent < 40; exponent++) {
+            for (long value : new long[]{(1L << exponent) - 1, 1L << exponent, (1L << exponent) + 1}) {
+                int index = LatencyHistogram.indexOf(value);
+                long lower = LatencyHistogram.upperBoundOf(index - 1) + 1;
+                long upper = LatencyHistogram.upperBoundOf(index);
+                assertTrue(lower <= value && value <= upper, "значение " + value);
+                assertTrue((upper - lower + 1) * 32 <= lower, "ширина корзины " + index);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Значения от 2^40 попадают в последнюю корзину")
+    public void clampsHugeValues() {
+        int last = LatencyHistogram.indexOf(TOP - 1);
+        assertEquals(last, LatencyHistogram.indexOf(TOP));
+        assertEquals(last, LatencyHistogram.indexOf(Long.MAX_VALUE));
+        assertEquals(TOP - 1, LatencyHistogram.upperBoundOf(last));
+    }
+
+    @Test
+    @DisplayName("Перцентили оцениваются по верхней границе корзины, но не выше максимума")
+    public void estimatesPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentile(50));
+        for (long value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+        assertEquals(100, histogram.getCount());
+        assertEquals(5050, histogram.getSum());
+        assertEquals(100, histogram.getMax());
+        assertEquals(50, histogram.getPercentile(50));
+        assertEquals(99, histogram.getPercentile(99));
+        assertEquals(100, histogram.getPercentile(100));
+        assertEquals(1, histogram.getPercentile(0));
+
+        histogram.record(1_000_000);
+        assertEquals(1_000_000, histogram.getPercentile(100));
+    }
+
+    @Test
+    @DisplayName("Отрицательные длительности записываются как 0")
+    public void recordsNegativeAsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getSum());
+        assertEquals(0, histogram.getPercentile(100));
+    }
+
+    @Test
+    @DisplayName("Запись из нескольких потоков не теряет значений")
+    public void recordsConcurrently() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 1; i <= 10_000; i++) {
+                    histogram.record(i);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(40_000, histogram.getCount());
+        assertEquals(4L * 10_000 * 10_001 / 2, histogram.getSum());
+        assertEquals(10_000, histogram.getMax());
+    }
+}
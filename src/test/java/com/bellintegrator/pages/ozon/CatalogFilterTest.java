@@ -0,0 +1,88 @@
+package com.bellintegrator.pages.ozon;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Проверяет перевод фильтра выдачи каталога в адрес и обратно без браузера.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class CatalogFilterTest {
+
+    private static final String BASE_URL = "https://www.ozon.ru/";
+
+    @Test
+    @DisplayName("Адрес выдачи восстанавливается из разобранного фильтра")
+    public void roundTripsUrl() {
+        String url = "https://www.ozon.ru/category/noutbuki-15692/?currency_price=10000.000%3B30000.000&brand=26303172%2C87346543";
+        CatalogFilter filter = CatalogFilter.parse(url);
+
+        assertEquals("noutbuki-15692", filter.getCategorySlug());
+        assertEquals(10000L, filter.getMinPrice());
+        assertEquals(30000L, filter.getMaxPrice());
+        assertEquals(Arrays.asList("26303172", "87346543"), filter.getBrandIds());
+        assertEquals(url, filter.toUrl(BASE_URL));
+        assertEquals(filter, CatalogFilter.parse(filter.toUrl(BASE_URL)));
+    }
+
+    @Test
+    @DisplayName("Фильтр из методов with совпадает с разобранным адресом")
+    public void buildsSameUrlAsSite() {
+        CatalogFilter filter = CatalogFilter.category("noutbuki-15692")
+                .withPriceRange(10000L, 30000L)
+                .withBrands("26303172", "87346543");
+
+        assertEquals(CatalogFilter.parse("https://www.ozon.ru/category/noutbuki-15692/"
+                + "?currency_price=10000.000;30000.000&brand=26303172,87346543"), filter);
+        assertEquals("https://www.ozon.ru/category/noutbuki-15692/", CatalogFilter.category("noutbuki-15692").toUrl(BASE_URL));
+    }
+
+    @Test
+    @DisplayName("Остальные параметры сохраняются, номер страницы отбрасывается")
+    public void keepsOtherParametersAndDropsPage() {
+        CatalogFilter filter = CatalogFilter.parse("https://www.ozon.ru/category/noutbuki-15692/"
+                + "?sorting=price&page=3&brand=26303172&text=%D0%BD%D0%BE%D1%83%D1%82#reviews");
+
+        assertEquals("https://www.ozon.ru/category/noutbuki-15692/?brand=26303172&sorting=price&text=%D0%BD%D0%BE%D1%83%D1%82",
+                filter.toUrl(BASE_URL));
+        assertFalse(filter.toUrl(BASE_URL).contains("page="));
+        assertThrows(IllegalArgumentException.class, () -> filter.withParameter("page", "2"));
+    }
+
+    @Test
+    @DisplayName("Цены с копейками расширяют диапазон до целых рублей")
+    public void widensFractionalPrices() {
+        CatalogFilter filter = CatalogFilter.parse("https://www.ozon.ru/category/noutbuki-15692/?currency_price=9999.990%3B30000.010");
+
+        assertEquals(9999L, filter.getMinPrice());
+        assertEquals(30001L, filter.getMaxPrice());
+
+        CatalogFilter openRange = CatalogFilter.parse("https://www.ozon.ru/category/noutbuki-15692/?currency_price=%3B5000.500");
+        assertNull(openRange.getMinPrice());
+        assertEquals(5001L, openRange.getMaxPrice());
+    }
+
+    @Test
+    @DisplayName("Некорректные категория, бренды и диапазон цен отклоняются")
+    public void rejectsInvalidFilters() {
+        assertThrows(IllegalArgumentException.class, () -> CatalogFilter.category("Ноутбуки"));
+        assertThrows(IllegalArgumentException.class, () -> CatalogFilter.category("noutbuki/../admin"));
+        assertThrows(IllegalArgumentException.class, () -> CatalogFilter.parse("https://www.ozon.ru/search/?text=noutbuk"));
+        assertThrows(IllegalArgumentException.class, () -> CatalogFilter.category("noutbuki-15692").withBrands("apple"));
+        assertThrows(IllegalArgumentException.class,
+                () -> CatalogFilter.parse("https://www.ozon.ru/category/noutbuki-15692/?brand=26303172%2C-1"));
+        assertThrows(IllegalArgumentException.class, () -> CatalogFilter.category("noutbuki-15692").withPriceRange(30000L, 10000L));
+        assertThrows(IllegalArgumentException.class,
+                () -> CatalogFilter.parse("https://www.ozon.ru/category/noutbuki-15692/?currency_price=30000.000%3B10000.000"));
+        assertThrows(IllegalArgumentException.class,
+                () -> CatalogFilter.parse("https://www.ozon.ru/category/noutbuki-15692/?currency_price=10000"));
+        assertThrows(IllegalArgumentException.class,
+                () -> CatalogFilter.parse("https://www.ozon.ru/category/noutbuki-15692/?currency_price=abc%3B10000"));
+    }
+}
@@ -0,0 +1,172 @@
+package com.bellintegrator.proxy;
+
+import net.lightbody.bmp.core.har.Har;
+import net.lightbody.bmp.core.har.HarEntry;
+import net.lightbody.bmp.core.har.HarLog;
+import net.lightbody.bmp.core.har.HarNameValuePair;
+import net.lightbody.bmp.core.har.HarRequest;
+import net.lightbody.bmp.core.har.HarResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509ExtendedTrustManager;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.cert.X509Certificate;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Проверяет воспроизведение записанного пути: HAR записывается в сжатый файл, читается обратно
+ * и отдается {@link ReplayServer}, а ответы запрашиваются через HttpClient.
+ * Сервер восстанавливает URL по заголовку Host, поэтому записанные URL указывают на 127.0.0.1.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ReplayServerTest {
+
+    private static final String RECORDED_ORIGIN = "https://127.0.0.1";
+    private static final byte[] LOGO = {(byte) 0x89, 'P', 'N', 'G', 0, (byte) 0xFF};
+
+    @TempDir
+    static Path directory;
+
+    private static ReplayServer server;
+    private static HttpClient client;
+    private static String baseUrl;
+
+    @BeforeAll
+    static void startServer() throws Exception {
+        HarLog log = new HarLog();
+        log.addEntry(entry(RECORDED_ORIGIN + "/api/items?page=1", 200, "text/plain", "первый", null));
+        log.addEntry(entry(RECORDED_ORIGIN + "/api/items?page=1", 200, "text/plain", "второй", null));
+        log.addEntry(entry(RECORDED_ORIGIN + "/search?text=noutbuk", 200, "text/html", "<html>выдача</html>", null));
+        log.addEntry(entry(RECORDED_ORIGIN + "/logo.png", 200, "image/png",
+                Base64.getEncoder().encodeToString(LOGO), "base64"));
+        log.addEntry(entry(RECORDED_ORIGIN + "/aborted", 0, "text/plain", "", null));
+        Path file = directory.resolve("journey.har.gz");
+        HarStore.write(new Har(log), file);
+
+        server = new ReplayServer(new HarStore(HarStore.read(file)), 0);
+        baseUrl = "https://127.0.0.1:" + server.start();
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(null, new TrustManager[]{new TrustAllManager()}, null);
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).sslContext(sslContext).build();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.stop();
+    }
+
+    @Test
+    @DisplayName("HAR записывается в сжатый файл")
+    public void writesCompressedHar() throws IOException {
+        try (InputStream input = Files.newInputStream(directory.resolve("journey.har.gz"))) {
+            assertEquals(0x1f, input.read());
+            assertEquals(0x8b, input.read());
+        }
+    }
+
+    @Test
+    @DisplayName("Повторные запросы получают записанные ответы по порядку, затем последний")
+    public void repliesInRecordedOrder() throws Exception {
+        assertEquals("первый", get("/api/items?page=1").body());
+        assertEquals("второй", get("/api/items?page=1").body());
+        assertEquals("второй", get("/api/items?page=1").body());
+    }
+
+    @Test
+    @DisplayName("Незаписанные параметры запроса отвечаются по URL без параметров")
+    public void fallsBackToUrlWithoutQuery() throws Exception {
+        HttpResponse<String> response = get("/search?text=planshet");
+        assertEquals(200, response.statusCode());
+        assertEquals("<html>выдача</html>", response.body());
+        assertEquals("text/html", response.headers().firstValue("Content-Type").orElse(null));
+    }
+
+    @Test
+    @DisplayName("Бинарное содержимое восстанавливается из base64")
+    public void decodesBinaryContent() throws Exception {
+        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/logo.png")).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(200, response.statusCode());
+        assertArrayEquals(LOGO, response.body());
+    }
+
+    @Test
+    @DisplayName("Незаписанные запросы и запросы без ответа получают 404")
+    public void answersUnknownWithNotFound() throws Exception {
+        assertEquals(404, get("/unknown").statusCode());
+        assertEquals(404, get("/aborted").statusCode());
+    }
+
+    private static HttpResponse<String> get(String pathAndQuery) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(URI.create(baseUrl + pathAndQuery)).build(),
+                HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+    }
+
+    private static HarEntry entry(String url, int status, String contentType, String text, String encoding) {
+        HarEntry entry = new HarEntry();
+        entry.setRequest(new HarRequest("GET", url, "HTTP/1.1"));
+        HarResponse response = new HarResponse(status, "", "HTTP/1.1");
+        response.getHeaders().add(new HarNameValuePair("Content-Type", contentType));
+        response.getHeaders().add(new HarNameValuePair("Content-Length", "999"));
+        response.getContent().setMimeType(contentType);
+        response.getContent().setText(text);
+        response.getContent().setEncoding(encoding);
+        entry.setResponse(response);
+        return entry;
+    }
+
+    /**
+     * Доверяет самоподписанному сертификату сервера воспроизведения, как браузер
+     * с --ignore-certificate-errors.
+     */
+    private static class TrustAllManager extends X509ExtendedTrustManager {
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket) {
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket) {
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType) {
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType) {
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return new X509Certificate[0];
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.bellintegrator.service;
+
+import com.bellintegrator.pages.ozon.OzonCatalogPage;
+import com.bellintegrator.pages.ozon.OzonItemPage;
+import com.bellintegrator.pages.ozon.OzonStartPage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.How;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Проверяет преобразование XPath локаторов страниц Ozon в CSS селекторы.
+ * Каждый локатор @FindBy страниц и каждое выражение XPathConstructor должны либо переводиться
+ * в ожидаемый CSS селектор, либо оставаться на XPath: ошибка перевода изменила бы найденные элементы без падения.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class LocatorCompilerTest {
+
+    /**
+     * Ожидаемый CSS селектор для каждого XPath локатора страниц; null означает, что локатор остается на XPath.
+     */
+    private static final Map<String, String> EXPECTED = new HashMap<>();
+
+    static {
+        EXPECTED.put("//div[@data-widget='catalogMenu']//button",
+                "div[data-widget='catalogMenu'] button");
+        EXPECTED.put("//button[contains(text(), 'Обновить')]", null);
+        EXPECTED.put("//div[@data-widget='filtersDesktop']//div[@filter-key='currency_price']"
+                + "//input[@type='text'][following-sibling::p[contains(text(), 'от')]]", null);
+        EXPECTED.put("//div[@data-widget='filtersDesktop']//div[@filter-key='currency_price']"
+                + "//input[@type='text'][following-sibling::p[contains(text(), 'до')]]", null);
+        EXPECTED.put("//div[@data-widget='filtersDesktop']"
+                + "//div[@lexems='[object Object]'][preceding-sibling::div[span[text()='Бренд']]]"
+                + "//button[div[text()='Посмотреть все']]", null);
+        EXPECTED.put("//div[@data-widget='filtersDesktop']"
+                + "//div[@lexems='[object Object]'][preceding-sibling::div[span[text()='Бренд']]]"
+                + "//span[contains(text(), '')]", null);
+        EXPECTED.put("//div[@data-widget='searchResultsV2']"
+                + "//a[contains(@href, '') and not(contains(@data-prerender, 'true'))]",
+                "div[data-widget='searchResultsV2'] a:not([data-prerender*='true'])");
+        EXPECTED.put("//div[@data-widget='searchBarDesktop']"
+                + "//form[@action='/search']//input[@placeholder='Искать на Ozon']",
+                "div[data-widget='searchBarDesktop'] form[action='/search'] input[placeholder='Искать на Ozon']");
+        EXPECTED.put("//div[@data-widget='searchBarDesktop']//form[@action='/search']//button[@type='submit']",
+                "div[data-widget='searchBarDesktop'] form[action='/search'] button[type='submit']");
+        EXPECTED.put("//div[@data-widget='webPrice']//button[@type='button']//span[contains(text(), '₽')]", null);
+        EXPECTED.put("//div[@data-widget='webPrice']//span[contains(text(), '₽')][following-sibling::span]", null);
+        EXPECTED.put("//h1[contains(@class, 'Headline')]", "h1[class*='Headline']");
+    }
+
+    @Test
+    @DisplayName("Каждый локатор @FindBy страниц Ozon переводится в ожидаемый CSS или остается на XPath")
+    public void compilesPageObjectLocators() {
+        int checked = 0;
+        for (Class<?> pageClass : new Class<?>[]{OzonStartPage.class, OzonCatalogPage.class, OzonItemPage.class}) {
+            for (Field field : pageClass.getDeclaredFields()) {
+                FindBy findBy = field.getAnnotation(FindBy.class);
+                if (findBy == null || findBy.how() != How.XPATH) {
+                    continue;
+                }
+                String xpath = findBy.using();
+                String location = pageClass.getSimpleName() + "." + field.getName();
+                assertTrue(EXPECTED.containsKey(xpath), "Нет ожидаемого перевода для " + location + ": " + xpath);
+                assertCompiled(xpath, EXPECTED.get(xpath));
+                checked++;
+            }
+        }
+        assertEquals(EXPECTED.size(), checked, "Ожидания не совпадают с локаторами страниц");
+    }
+
+    @Test
+    @DisplayName("Выражения XPathConstructor стартовой страницы")
+    public void compilesConstructedXPaths() throws ReflectiveOperationException {
+        assertCompiled(invoke("locationXPath"), "div[class='vue-portal-target'] button[type='button']");
+        assertCompiled(invoke("cookieXPath", "ОК"), null);
+        assertCompiled(XPathConstructor.constructXPath("//", "span", "", "text()", "=", "Электроника", ""), null);
+        assertCompiled(XPathConstructor.constructXPath("//", "a", "", "text()", "=", "Ноутбуки", ""), null);
+    }
+
+    @Test
+    @DisplayName("Предикаты по атрибутам переводятся в CSS")
+    public void compilesAttributePredicates() {
+        assertCompiled("//div[@id='main']/ul/li", "div[id='main'] > ul > li");
+        assertCompiled(".//*[@data-widget]", "[data-widget]");
+        assertCompiled("//a[starts-with(@href, '/product/')]", "a[href^='/product/']");
+        assertCompiled("//a[contains(@class, 'tile') and @href]", "a[class*='tile'][href]");
+        assertCompiled("//a[not(@data-prerender='true')]", "a:not([data-prerender='true'])");
+        assertCompiled("//input[@placeholder=\"It's\"]", "input[placeholder='It\\'s']");
+    }
+
+    @Test
+    @DisplayName("Выражения без CSS аналога остаются на XPath с причиной")
+    public void keepsUntranslatableOnXPath() {
+        assertFallback("//span[text()='Бренд']");
+        assertFallback("//button[contains(text(), 'Обновить')]");
+        assertFallback("//button[contains(., 'Обновить')]");
+        assertFallback("//div[descendant::span]");
+        assertFallback("//button[div[text()='Посмотреть все']]");
+        assertFallback("//span[following-sibling::span]");
+        assertFallback("//li[2]");
+        assertFallback("//a[@href='/a' or @href='/b']");
+        assertFallback("//input[@value!='']");
+        assertFallback("//div/ancestor::section");
+        assertFallback("(//div)[1]");
+    }
+
+    private static void assertCompiled(String xpath, String expectedCss) {
+        CompiledLocator compiled = LocatorCompiler.compile(xpath);
+        if (expectedCss == null) {
+            assertFalse(compiled.isCss(), "Ожидался XPath для " + xpath + ", получен CSS " + compiled.getCss());
+            assertNotNull(compiled.getReason());
+        } else {
+            assertEquals(expectedCss, compiled.getCss(), "Перевод " + xpath + ": " + compiled.getReason());
+        }
+    }
+
+    private static void assertFallback(String xpath) {
+        assertCompiled(xpath, null);
+    }
+
+    private static String invoke(String methodName, String... arguments) throws ReflectiveOperationException {
+        Class<?>[] types = new Class<?>[arguments.length];
+        Arrays.fill(types, String.class);
+        Method method = OzonStartPage.class.getDeclaredMethod(methodName, types);
+        method.setAccessible(true);
+        return (String) method.invoke(null, (Object[]) arguments);
+    }
+}
@@ -1,11 +1,13 @@
 package com.bellintegrator.tests;
 
+import com.bellintegrator.data.WorkQueueExtension;
 import com.bellintegrator.pages.ozon.OzonCatalogPage;
 import com.bellintegrator.pages.ozon.OzonStartPage;
 import com.bellintegrator.steps.Steps;
 import com.bellintegrator.steps.StepAssert;
 import com.bellintegrator.webdriver.WebDriverInitialization;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -21,6 +23,7 @@ public class Task_1_4_Test extends WebDriverInitialization {
 
     /**
      * Тест для поиска и проверки товаров на сайте интернет-магазина Ozon.
+     * При заданном work.queue.run.id случаи раздаются между процессами через общую очередь.
      *
      * @param startURL       Начальный URL для начала теста.
      * @param checkURL       Ожидаемый фрагмент URL для проверки.
@@ -33,18 +36,20 @@ public class Task_1_4_Test extends WebDriverInitialization {
     @ParameterizedTest(name = "{displayName}: {arguments}")
     @MethodSource("com.bellintegrator.data.DataProvider#dataForTestFour")
     @DisplayName("Проверка интернет-магазина Ozon")
+    @ExtendWith(WorkQueueExtension.class)
     public void testSearchingLaptops(String startURL, String cockieButtonName, String menuName, String innerMenuName, String checkURL, String brandOne, String brandTwo,
                                    String minPriceInput, String maxPriceInput,
                                    String quantityItems) {
 
-        Steps steps = new Steps(webDriver);
-        StepAssert stepAssert = new StepAssert(webDriver);
+        Steps steps = new Steps();
+        StepAssert stepAssert = new StepAssert();
 
         OzonStartPage ozonStartPage = new OzonStartPage(webDriver);
-        steps.openPage(webDriver, startURL);
+        steps.openPage(webDriver, startURL, OzonStartPage.class);
         steps.clickRefreshButton(ozonStartPage);
         steps.closeCookie(ozonStartPage, cockieButtonName);
         steps.skipLocationAccept(ozonStartPage);
+        steps.saveSessionSnapshot();
         steps.clickCatalogButton(ozonStartPage);
         steps.navigateToMenu(ozonStartPage, menuName);
         steps.navigateToInnerMenu(ozonStartPage, innerMenuName);
@@ -55,11 +60,11 @@ public class Task_1_4_Test extends WebDriverInitialization {
 
         steps.setPriceRange(ozonCatalogPage, minPriceInput, maxPriceInput);
         steps.selectBrands(ozonCatalogPage, brandOne, brandTwo);
-        steps.scrollPageDown();
-        stepAssert.assertItemsQuantity(ozonCatalogPage, quantityItems);
+        int loadedItems = steps.scrollUntilItems(quantityItems);
+        stepAssert.assertItemsQuantity(loadedItems, quantityItems);
         stepAssert.verifyItems(ozonCatalogPage, minPriceInput, maxPriceInput, brandOne, brandTwo);
 
-        String firstNameItem = ozonCatalogPage.getFoundNameItems(ozonCatalogPage.getFoundItems()).get(0);
+        String firstNameItem = ozonCatalogPage.getFoundNameItems().get(0);
         steps.searchItem(ozonCatalogPage, firstNameItem);
         stepAssert.assertItemFound(ozonCatalogPage, firstNameItem);
     }
@@ -0,0 +1,95 @@
+package com.bellintegrator.verification;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.Cookie;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Проверяет загрузку страниц товаров по HTTP на локальном сервере, отдающем страницы-фикстуры.
+ * Сервер отвечает только на запросы с cookie сессии, как Ozon без прохождения проверки.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class HttpItemFetcherTest {
+
+    private static HttpServer server;
+    private static String baseUrl;
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/product/", exchange -> {
+            String cookie = exchange.getRequestHeaders().getFirst("Cookie");
+            String name = exchange.getRequestURI().getPath().substring("/product/".length());
+            InputStream fixture = HttpItemFetcherTest.class.getResourceAsStream("/items/" + name + ".html");
+            int status = cookie == null || !cookie.contains("__Secure-access-token=token")
+                    ? 403 : fixture == null ? 404 : 200;
+            byte[] body = status == 200 ? fixture.readAllBytes() : new byte[0];
+            exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+            exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/product/";
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.stop(0);
+    }
+
+    private static HttpItemFetcher fetcher(String cookieValue) {
+        return new HttpItemFetcher(Collections.singleton(new Cookie("__Secure-access-token", cookieValue)),
+                "Mozilla/5.0", Duration.ofSeconds(5), 4);
+    }
+
+    @Test
+    @DisplayName("Цена с картой и заголовок извлекаются из состояния webPrice и h1")
+    public void readsServerRenderedPrice() {
+        ItemFacts facts = fetcher("token").fetch(baseUrl + "ssr-card-price");
+        assertNotNull(facts);
+        assertEquals("24\u2009990\u2009₽", facts.getCardPrice());
+        assertNull(facts.getPrice());
+        assertEquals("Ноутбук Lenovo IdeaPad 3 15\", Intel Core i5", facts.getTitle());
+        assertEquals(24990, ItemCriteria.parsePrice(facts.getCheckedPrice()));
+    }
+
+    @Test
+    @DisplayName("Товар не в продаже возвращается без цен")
+    public void readsOutOfStock() {
+        ItemFacts facts = fetcher("token").fetch(baseUrl + "ssr-out-of-stock");
+        assertNotNull(facts);
+        assertNull(facts.getCheckedPrice());
+        assertEquals("Ноутбук HP 250 G8", facts.getTitle());
+    }
+
+    @Test
+    @DisplayName("Страницы без данных в HTML и неуспешные ответы остаются для браузера")
+    public void leavesUnreadablePagesToBrowser() {
+        List<String> urls = Arrays.asList(baseUrl + "ssr-card-price", baseUrl + "client-rendered",
+                baseUrl + "missing", baseUrl + "ssr-out-of-stock");
+        List<ItemFacts> facts = fetcher("token").fetchAll(urls);
+        assertEquals(4, facts.size());
+        assertNotNull(facts.get(0));
+        assertNull(facts.get(1));
+        assertNull(facts.get(2));
+        assertNotNull(facts.get(3));
+        assertNull(fetcher("expired").fetch(baseUrl + "ssr-card-price"));
+    }
+}
@@ -0,0 +1,127 @@
+package com.bellintegrator.verification;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Проверяет вытеснение, устаревание и сохранение на диск кэша данных о товарах.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ItemFactsCacheTest {
+
+    private static final String ITEM_A = "https://www.ozon.ru/product/a-1/";
+    private static final String ITEM_B = "https://www.ozon.ru/product/b-2/";
+    private static final String ITEM_C = "https://www.ozon.ru/product/c-3/";
+
+    @Test
+    @DisplayName("Ссылка приводится к виду без параметров, фрагмента и завершающей косой черты")
+    public void canonicalizesUrl() {
+        assertEquals("https://www.ozon.ru/product/a-1", ItemFactsCache.canonicalUrl(ITEM_A));
+        assertEquals("https://www.ozon.ru/product/a-1",
+                ItemFactsCache.canonicalUrl("https://www.ozon.ru/product/a-1/?asb=1&sh=x"));
+        assertEquals("https://www.ozon.ru/product/a-1",
+                ItemFactsCache.canonicalUrl("https://www.ozon.ru/product/a-1//#reviews"));
+        assertEquals("https://www.ozon.ru/product/a-1",
+                ItemFactsCache.canonicalUrl("https://www.ozon.ru/product/a-1#x?y=1"));
+    }
+
+    @Test
+    @DisplayName("Данные находятся по любой ссылке на тот же товар, промахи и попадания считаются")
+    public void countsHitsAndMisses() {
+        ItemFactsCache cache = new ItemFactsCache(4, Duration.ofMinutes(10), null);
+        assertNull(cache.get(ITEM_A));
+        cache.put(facts(ITEM_A, Instant.now()));
+
+        ItemFacts found = cache.get("https://www.ozon.ru/product/a-1?from=search");
+        assertNotNull(found);
+        assertEquals("1 000 ₽", found.getPrice());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    @DisplayName("При переполнении вытесняется давно не использованная запись")
+    public void evictsLeastRecentlyUsed() {
+        ItemFactsCache cache = new ItemFactsCache(2, Duration.ofMinutes(10), null);
+        cache.put(facts(ITEM_A, Instant.now()));
+        cache.put(facts(ITEM_B, Instant.now()));
+        assertNotNull(cache.get(ITEM_A));
+
+        cache.put(facts(ITEM_C, Instant.now()));
+
+        assertNotNull(cache.get(ITEM_A));
+        assertNull(cache.get(ITEM_B));
+        assertNotNull(cache.get(ITEM_C));
+    }
+
+    @Test
+    @DisplayName("Устаревшие данные не выдаются")
+    public void expiresByTtl() {
+        ItemFactsCache cache = new ItemFactsCache(4, Duration.ofMinutes(10), null);
+        cache.put(facts(ITEM_A, Instant.now().minus(Duration.ofMinutes(11))));
+        cache.put(facts(ITEM_B, Instant.now().minus(Duration.ofMinutes(9))));
+
+        assertNull(cache.get(ITEM_A));
+        assertNotNull(cache.get(ITEM_B));
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    @DisplayName("Кэш нулевого размера ничего не хранит")
+    public void zeroCapacityDisablesCache() {
+        ItemFactsCache cache = new ItemFactsCache(0, Duration.ofMinutes(10), null);
+        cache.put(facts(ITEM_A, Instant.now()));
+        assertNull(cache.get(ITEM_A));
+    }
+
+    @Test
+    @DisplayName("Актуальные записи переживают перезапуск, устаревшие не загружаются")
+    public void reloadsFromDisk(@TempDir Path dir) {
+        Path file = dir.resolve("cache").resolve("items.json");
+        ItemFactsCache first = new ItemFactsCache(4, Duration.ofMinutes(10), file);
+        first.put(facts(ITEM_A, Instant.now()));
+        first.put(facts(ITEM_B, Instant.now().minus(Duration.ofMinutes(8))));
+        first.save();
+        assertTrue(Files.isRegularFile(file));
+
+        ItemFactsCache second = new ItemFactsCache(4, Duration.ofMinutes(10), file);
+        ItemFacts reloaded = second.get(ITEM_A);
+        assertNotNull(reloaded);
+        assertEquals("1 000 ₽", reloaded.getPrice());
+        assertEquals("900 ₽", reloaded.getCardPrice());
+        assertEquals("Товар", reloaded.getTitle());
+        assertNotNull(second.get(ITEM_B));
+
+        ItemFactsCache shorter = new ItemFactsCache(4, Duration.ofMinutes(5), file);
+        assertNotNull(shorter.get(ITEM_A));
+        assertNull(shorter.get(ITEM_B));
+    }
+
+    @Test
+    @DisplayName("Поврежденный файл кэша не мешает работе")
+    public void ignoresCorruptFile(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("items.json");
+        Files.write(file, "{не json".getBytes(StandardCharsets.UTF_8));
+
+        ItemFactsCache cache = new ItemFactsCache(4, Duration.ofMinutes(10), file);
+        assertNull(cache.get(ITEM_A));
+        cache.put(facts(ITEM_A, Instant.now()));
+        assertNotNull(cache.get(ITEM_A));
+    }
+
+    private static ItemFacts facts(String url, Instant fetchedAt) {
+        return new ItemFacts(url, "1 000 ₽", "900 ₽", "Товар", fetchedAt);
+    }
+}
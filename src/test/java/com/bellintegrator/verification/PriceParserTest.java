@@ -0,0 +1,105 @@
+package com.bellintegrator.verification;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Проверяет разбор текста цены в копейки: все поддерживаемые формы и все причины ошибок.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class PriceParserTest {
+
+    @Test
+    @DisplayName("Разделители разрядов: пробел, неразрывный, узкий и тонкий пробелы")
+    public void parsesGroupSeparators() {
+        assertEquals(2499000, PriceParser.parseMinor("24990"));
+        assertEquals(2499000, PriceParser.parseMinor("24 990 ₽"));
+        assertEquals(2499000, PriceParser.parseMinor("24 990 ₽"));
+        assertEquals(2499000, PriceParser.parseMinor("24 990 ₽"));
+        assertEquals(2499000, PriceParser.parseMinor("24 990 ₽"));
+        assertEquals(123456700, PriceParser.parseMinor("  1 234 567 ₽  "));
+    }
+
+    @Test
+    @DisplayName("Копейки после запятой или точки")
+    public void parsesMinorUnits() {
+        assertEquals(129990, PriceParser.parseMinor("1 299,90 ₽"));
+        assertEquals(129990, PriceParser.parseMinor("1 299.9 ₽"));
+        assertEquals(129905, PriceParser.parseMinor("1299,05"));
+    }
+
+    @Test
+    @DisplayName("Обозначения валюты ₽, руб и р.")
+    public void parsesCurrencyMarks() {
+        assertEquals(1000000, PriceParser.parseMinor("10 000 руб."));
+        assertEquals(1000000, PriceParser.parseMinor("10 000 руб"));
+        assertEquals(1000000, PriceParser.parseMinor("10 000 р."));
+        assertEquals(1000000, PriceParser.parseMinor("10 000 РУБ."));
+    }
+
+    @Test
+    @DisplayName("Префиксы от и до")
+    public void parsesPrefixes() {
+        assertEquals(1000000, PriceParser.parseMinor("от 10 000 ₽"));
+        assertEquals(500000, PriceParser.parseMinor("до 5 000 ₽"));
+        assertEquals(1000000, PriceParser.parseUpperMinor("от 10 000 ₽"));
+    }
+
+    @Test
+    @DisplayName("Диапазоны через дефис, тире и до")
+    public void parsesRanges() {
+        for (String range : new String[]{"10 000 - 12 000 ₽", "10 000 – 12 000 ₽", "10 000—12 000 ₽",
+                "от 10 000 до 12 000 ₽", "10 000 ₽ – 12 000 ₽", "10 000 – 12 000 руб."}) {
+            assertEquals(1000000, PriceParser.parseMinor(range), range);
+            assertEquals(1200000, PriceParser.parseUpperMinor(range), range);
+        }
+    }
+
+    @Test
+    @DisplayName("Старая цена, скидка и другой текст после суммы не учитываются")
+    public void ignoresTrailingText() {
+        assertEquals(2499000, PriceParser.parseMinor("24 990 ₽ 31 990 ₽"));
+        assertEquals(2499000, PriceParser.parseMinor("24 990 ₽ -10%"));
+        assertEquals(2499000, PriceParser.parseUpperMinor("24 990 ₽ -10%"));
+        assertEquals(2499000, PriceParser.parseMinor("24 990 ₽ − скидка"));
+        assertEquals(2499000, PriceParser.parseMinor("24 990 ₽ - 1,234567"));
+        assertEquals(2499000, PriceParser.parseMinor("24 990 ₽ с Ozon Картой"));
+    }
+
+    @Test
+    @DisplayName("Совместимость с ItemCriteria.parsePrice")
+    public void matchesItemCriteria() {
+        assertEquals(24990, ItemCriteria.parsePrice("24 990 ₽"));
+        assertEquals(1299, ItemCriteria.parsePrice("1 299,90 ₽"));
+    }
+
+    @Test
+    @DisplayName("Каждая причина ошибки сообщается с позицией")
+    public void reportsEveryReason() {
+        assertReason(PriceParseException.Reason.EMPTY, "  ", 2);
+        assertReason(PriceParseException.Reason.EMPTY, "", 0);
+        assertReason(PriceParseException.Reason.NO_DIGITS, "от ", 3);
+        assertReason(PriceParseException.Reason.UNEXPECTED_CHARACTER, "цена по запросу", 0);
+        assertReason(PriceParseException.Reason.UNEXPECTED_CHARACTER, "₽ 100", 0);
+        assertReason(PriceParseException.Reason.TOO_MANY_FRACTION_DIGITS, "1,234 ₽", 4);
+        assertReason(PriceParseException.Reason.OVERFLOW, "999999999999999999999 ₽", 16);
+        assertReason(PriceParseException.Reason.INVALID_RANGE, "12 000 – 10 000 ₽", 7);
+    }
+
+    @Test
+    @DisplayName("Ошибка разбора остается NumberFormatException")
+    public void isNumberFormatException() {
+        assertThrows(NumberFormatException.class, () -> PriceParser.parseMinor("нет"));
+    }
+
+    private static void assertReason(PriceParseException.Reason reason, String text, int position) {
+        PriceParseException e = assertThrows(PriceParseException.class, () -> PriceParser.parseMinor(text), text);
+        assertEquals(reason, e.getReason(), text);
+        assertEquals(position, e.getPosition(), text);
+        assertEquals(text, e.getInput());
+    }
+}